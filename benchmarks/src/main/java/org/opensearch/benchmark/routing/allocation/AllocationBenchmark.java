@@ -126,6 +126,7 @@ public class AllocationBenchmark {
         "       500|     60|       1|     100|    100|     12|",
         "       500|     60|       1|     100|     40|     12|",
         "       500|     60|       1|      40|    100|     12|",
+        "      1000|     60|       1|     500|   1000|     12|",
 
         "       50|      60|       1|     100|    100|      6|",
         "       50|      60|       1|     100|     40|      6|",
@@ -48,7 +48,8 @@ import static org.opensearch.cluster.routing.ShardRoutingState.INITIALIZING;
 public class RerouteBenchmark {
     @Param({
         // indices| nodes
-        "    10000|  500|", })
+        "    10000|  500|",
+        "     5000| 1000|", })
     public String indicesNodes = "1|1";
     public int numIndices;
     public int numNodes;
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search.query;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.search.query.DecodedBitmapCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * Compares decoding the bitmap of a bitmap terms query on every shard with looking it up in the
+ * {@link DecodedBitmapCache}, which hashes and compares the serialized bytes on every hit.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DecodedBitmapCacheBenchmark {
+
+    @Param({ "1000", "100000", "1000000" })
+    public int cardinality;
+
+    private BytesArray serialized;
+    private DecodedBitmapCache cache;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        RoaringBitmap bitmap = new RoaringBitmap();
+        while (bitmap.getCardinality() < cardinality) {
+            bitmap.add(random.nextInt(cardinality * 10));
+        }
+        byte[] bytes = new byte[bitmap.serializedSizeInBytes()];
+        bitmap.serialize(ByteBuffer.wrap(bytes));
+        serialized = new BytesArray(bytes);
+        cache = new DecodedBitmapCache(Settings.EMPTY);
+        cache.getOrDecode(serialized);
+    }
+
+    @Benchmark
+    public RoaringBitmap decode() {
+        return DecodedBitmapCache.decode(serialized);
+    }
+
+    @Benchmark
+    public RoaringBitmap cachedLookup() {
+        return cache.getOrDecode(serialized);
+    }
+}
@@ -66,6 +66,7 @@ import org.opensearch.painless.ir.NullNode;
 import org.opensearch.painless.ir.NullSafeSubNode;
 import org.opensearch.painless.ir.ReturnNode;
 import org.opensearch.painless.ir.StatementExpressionNode;
+import org.opensearch.painless.ir.StaticNode;
 import org.opensearch.painless.ir.StoreBraceDefNode;
 import org.opensearch.painless.ir.StoreBraceNode;
 import org.opensearch.painless.ir.StoreDotDefNode;
@@ -80,7 +81,10 @@ import org.opensearch.painless.ir.ThrowNode;
 import org.opensearch.painless.ir.UnaryMathNode;
 import org.opensearch.painless.ir.WhileLoopNode;
 import org.opensearch.painless.lookup.PainlessLookupUtility;
+import org.opensearch.painless.lookup.PainlessMethod;
+import org.opensearch.painless.spi.annotation.NonDeterministicAnnotation;
 
+import java.lang.reflect.Modifier;
 import java.util.function.Consumer;
 
 /**
@@ -184,6 +188,51 @@ public class DefaultConstantFoldingOptimizationPhase extends IRTreeBaseVisitor<C
     public void visitBinaryImpl(BinaryImplNode irBinaryImplNode, Consumer<ExpressionNode> scope) {
         irBinaryImplNode.getLeftNode().visit(this, irBinaryImplNode::setLeftNode);
         irBinaryImplNode.getRightNode().visit(this, irBinaryImplNode::setRightNode);
+
+        // a static call with all constant arguments to a deterministic method can be evaluated
+        // at compile-time as long as the result is a type that can be stored as a constant
+        if (irBinaryImplNode.getLeftNode() instanceof StaticNode && irBinaryImplNode.getRightNode() instanceof InvokeCallNode) {
+            InvokeCallNode irInvokeCallNode = (InvokeCallNode) irBinaryImplNode.getRightNode();
+            PainlessMethod painlessMethod = irInvokeCallNode.getMethod();
+
+            if (Modifier.isStatic(painlessMethod.javaMethod.getModifiers()) == false
+                || painlessMethod.annotations.containsKey(NonDeterministicAnnotation.class)
+                || PainlessLookupUtility.isConstantType(irInvokeCallNode.getExpressionType()) == false) {
+                return;
+            }
+
+            Object[] arguments = new Object[irInvokeCallNode.getArgumentNodes().size()];
+
+            for (int i = 0; i < arguments.length; i++) {
+                ExpressionNode irArgumentNode = irInvokeCallNode.getArgumentNodes().get(i);
+
+                if (irArgumentNode instanceof ConstantNode == false) {
+                    return;
+                }
+
+                arguments[i] = ((ConstantNode) irArgumentNode).getConstant();
+            }
+
+            Object constant;
+
+            try {
+                constant = painlessMethod.methodHandle.invokeWithArguments(arguments);
+            } catch (Error error) {
+                throw error;
+            } catch (Throwable throwable) {
+                // leave the call in place so the failure is reported when the script is executed
+                return;
+            }
+
+            if (constant == null) {
+                return;
+            }
+
+            ConstantNode irConstantNode = new ConstantNode(irInvokeCallNode.getLocation());
+            irConstantNode.setExpressionType(irInvokeCallNode.getExpressionType());
+            irConstantNode.setConstant(constant);
+            scope.accept(irConstantNode);
+        }
     }
 
     @Override
@@ -976,6 +1025,16 @@ public class DefaultConstantFoldingOptimizationPhase extends IRTreeBaseVisitor<C
         irConditionalNode.getConditionNode().visit(this, irConditionalNode::setConditionNode);
         irConditionalNode.getLeftNode().visit(this, irConditionalNode::setLeftNode);
         irConditionalNode.getRightNode().visit(this, irConditionalNode::setRightNode);
+
+        if (irConditionalNode.getConditionNode() instanceof ConstantNode) {
+            ConstantNode irConstantNode = (ConstantNode) irConditionalNode.getConditionNode();
+
+            if ((boolean) irConstantNode.getConstant()) {
+                scope.accept(irConditionalNode.getLeftNode());
+            } else {
+                scope.accept(irConditionalNode.getRightNode());
+            }
+        }
     }
 
     @Override
@@ -130,4 +130,21 @@ public class ConstantFoldingTests extends ScriptTestCase {
         assertBytecodeExists("2+'2D'", "LDC \"22D\"");
         assertBytecodeExists("4L<5F", "ICONST_1");
     }
+
+    public void testConditional() {
+        assertBytecodeExists("return true ? 2 : 3", "ICONST_2");
+        assertBytecodeExists("return 1 > 2 ? 'x' : 'y'", "LDC \"y\"");
+        assertEquals(3, exec("return 1 > 2 ? 2 : 3"));
+    }
+
+    public void testStaticCall() {
+        assertBytecodeExists("return Integer.max(2, 5)", "ICONST_5");
+        assertBytecodeExists("return Integer.toHexString(255)", "LDC \"ff\"");
+        assertBytecodeExists("return Math.abs(-3.0) + 1.0", "LDC 4.0");
+        assertEquals(5, exec("return Integer.max(2, 5)"));
+        // nondeterministic methods are never evaluated at compile-time
+        assertBytecodeExists("return Math.random()", "INVOKESTATIC java/lang/Math.random ()D");
+        // failures are left to be reported at runtime
+        expectScriptThrows(NumberFormatException.class, () -> exec("return Integer.parseInt('x')"));
+    }
 }
@@ -33,14 +33,21 @@ package org.opensearch.join.aggregations;
 
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PostingsEnum;
 import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.ConjunctionUtils;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.DocIdSetBuilder;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.lucene.Lucene;
@@ -57,7 +64,11 @@ import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.function.LongConsumer;
 
 /**
  * An aggregator that joins documents based on global ordinals.
@@ -135,12 +146,21 @@ public abstract class ParentJoinAggregator extends BucketsAggregator implements
     @Override
     protected void beforeBuildingBuckets(long[] ordsToCollect) throws IOException {
         IndexReader indexReader = context().searcher().getIndexReader();
+        BytesRef[] collectedTerms = collectedTermsForLookup(indexReader, ordsToCollect);
         for (LeafReaderContext ctx : indexReader.leaves()) {
             Scorer childDocsScorer = outFilter.scorer(ctx);
             if (childDocsScorer == null) {
                 continue;
             }
             DocIdSetIterator childDocsIter = childDocsScorer.iterator();
+            Terms joinTerms = collectedTerms == null ? null : ctx.reader().terms(valuesSource.getIndexFieldName());
+            if (joinTerms != null) {
+                DocIdSetIterator candidates = docsWithTerms(ctx, joinTerms, collectedTerms);
+                if (candidates == null) {
+                    continue;
+                }
+                childDocsIter = ConjunctionUtils.intersectIterators(Arrays.asList(candidates, childDocsIter));
+            }
 
             final LeafBucketCollector sub = collectableSubAggregators.getLeafCollector(ctx);
 
@@ -180,6 +200,72 @@ public abstract class ParentJoinAggregator extends BucketsAggregator implements
         super.postCollection(); // Run post collection after collecting the sub-aggs
     }
 
+    /**
+     * The join field is indexed so its postings already map every value to the
+     * docs that contain it. When only a few ordinals were collected it is cheaper
+     * to seek those values in every segment than to replay every doc that matches
+     * the {@code outFilter}. Returns the sorted values of the collected ordinals
+     * if they should be looked up this way or {@code null} if all docs matching
+     * the {@code outFilter} should be replayed. Segments without postings for the
+     * join field are always replayed in full.
+     */
+    private BytesRef[] collectedTermsForLookup(IndexReader indexReader, long[] ordsToCollect) throws IOException {
+        String joinField = valuesSource.getIndexFieldName();
+        if (joinField == null || indexReader.leaves().isEmpty()) {
+            return null;
+        }
+        long outCost = 0;
+        for (LeafReaderContext ctx : indexReader.leaves()) {
+            ScorerSupplier childDocsSupplier = outFilter.scorerSupplier(ctx);
+            if (childDocsSupplier != null) {
+                outCost += childDocsSupplier.cost();
+            }
+        }
+        // every collected ordinal costs a terms dictionary lookup per segment
+        long maxLookups = outCost / indexReader.leaves().size();
+        if (collectionStrategy.size() > maxLookups) {
+            return null;
+        }
+        // size() counts every collected pair so it bounds the ordinals of the requested buckets
+        long[] sortedOrds = new long[Math.toIntExact(collectionStrategy.size())];
+        int[] count = new int[1];
+        for (long owningBucketOrd : ordsToCollect) {
+            collectionStrategy.forEachOrd(owningBucketOrd, ord -> sortedOrds[count[0]++] = ord);
+        }
+        Arrays.sort(sortedOrds, 0, count[0]);
+        SortedSetDocValues globalOrdinals = valuesSource.globalOrdinalsValues(indexReader.leaves().get(0));
+        List<BytesRef> terms = new ArrayList<>(count[0]);
+        for (int i = 0; i < count[0]; i++) {
+            if (i == 0 || sortedOrds[i] != sortedOrds[i - 1]) {
+                terms.add(BytesRef.deepCopyOf(globalOrdinals.lookupOrd(sortedOrds[i])));
+            }
+        }
+        return terms.toArray(new BytesRef[0]);
+    }
+
+    /**
+     * Builds an iterator over all docs in the segment that contain one of the
+     * provided values of the join field, or {@code null} if there are none.
+     */
+    private DocIdSetIterator docsWithTerms(LeafReaderContext ctx, Terms terms, BytesRef[] sortedTerms) throws IOException {
+        TermsEnum termsEnum = terms.iterator();
+        DocIdSetBuilder builder = null;
+        PostingsEnum postings = null;
+        for (BytesRef term : sortedTerms) {
+            if (termsEnum.seekExact(term)) {
+                if (builder == null) {
+                    builder = new DocIdSetBuilder(ctx.reader().maxDoc(), terms);
+                }
+                postings = termsEnum.postings(postings, PostingsEnum.NONE);
+                builder.add(postings);
+            }
+        }
+        if (builder == null) {
+            return null;
+        }
+        return builder.build().iterator();
+    }
+
     @Override
     protected void doClose() {
         Releasables.close(collectionStrategy);
@@ -195,6 +281,16 @@ public abstract class ParentJoinAggregator extends BucketsAggregator implements
         void add(long owningBucketOrd, int globalOrdinal);
 
         boolean exists(long owningBucketOrd, int globalOrdinal);
+
+        /**
+         * The number of collected (owningBucketOrd, globalOrdinal) pairs.
+         */
+        long size();
+
+        /**
+         * Calls {@code consumer} with every global ordinal collected for {@code owningBucketOrd}.
+         */
+        void forEachOrd(long owningBucketOrd, LongConsumer consumer);
     }
 
     /**
@@ -205,15 +301,19 @@ public abstract class ParentJoinAggregator extends BucketsAggregator implements
      */
     protected class DenseCollectionStrategy implements CollectionStrategy {
         private final BitArray ordsBits;
+        private final long maxOrd;
+        private long size = -1;
 
         public DenseCollectionStrategy(long maxOrd, BigArrays bigArrays) {
             ordsBits = new BitArray(maxOrd, context.bigArrays());
+            this.maxOrd = maxOrd;
         }
 
         @Override
         public void add(long owningBucketOrd, int globalOrdinal) {
             assert owningBucketOrd == 0;
             ordsBits.set(globalOrdinal);
+            size = -1;
         }
 
         @Override
@@ -222,6 +322,26 @@ public abstract class ParentJoinAggregator extends BucketsAggregator implements
             return ordsBits.get(globalOrdinal);
         }
 
+        @Override
+        public long size() {
+            if (size == -1) {
+                long count = 0;
+                for (long ord = ordsBits.nextSetBit(0); ord < maxOrd; ord = ordsBits.nextSetBit(ord + 1)) {
+                    count++;
+                }
+                size = count;
+            }
+            return size;
+        }
+
+        @Override
+        public void forEachOrd(long owningBucketOrd, LongConsumer consumer) {
+            assert owningBucketOrd == 0;
+            for (long ord = ordsBits.nextSetBit(0); ord < maxOrd; ord = ordsBits.nextSetBit(ord + 1)) {
+                consumer.accept(ord);
+            }
+        }
+
         @Override
         public void close() {
             ordsBits.close();
@@ -251,6 +371,19 @@ public abstract class ParentJoinAggregator extends BucketsAggregator implements
             return ordsHash.find(owningBucketOrd, globalOrdinal) >= 0;
         }
 
+        @Override
+        public long size() {
+            return ordsHash.size();
+        }
+
+        @Override
+        public void forEachOrd(long owningBucketOrd, LongConsumer consumer) {
+            LongKeyedBucketOrds.BucketOrdsEnum ordsEnum = ordsHash.ordsEnum(owningBucketOrd);
+            while (ordsEnum.next()) {
+                consumer.accept(ordsEnum.value());
+            }
+        }
+
         @Override
         public void close() {
             ordsHash.close();
@@ -74,6 +74,7 @@ import org.opensearch.search.aggregations.metrics.InternalMin;
 import org.opensearch.search.aggregations.metrics.MinAggregationBuilder;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -111,10 +112,22 @@ public class ParentToChildrenAggregatorTests extends AggregatorTestCase {
     }
 
     public void testParentChild() throws IOException {
+        assertParentChild(false);
+    }
+
+    /**
+     * Indexes the join field so that children of selective parents are looked up
+     * through its postings instead of replaying every child doc.
+     */
+    public void testParentChildWithIndexedJoinField() throws IOException {
+        assertParentChild(true);
+    }
+
+    private void assertParentChild(boolean indexJoinField) throws IOException {
         Directory directory = newDirectory();
         RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory);
 
-        final Map<String, Tuple<Integer, Integer>> expectedParentChildRelations = setupIndex(indexWriter);
+        final Map<String, Tuple<Integer, Integer>> expectedParentChildRelations = setupIndex(indexWriter, indexJoinField);
         indexWriter.close();
 
         IndexReader indexReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(directory), new ShardId(new Index("foo", "_na_"), 1));
@@ -210,17 +223,23 @@ public class ParentToChildrenAggregatorTests extends AggregatorTestCase {
     }
 
     private static Map<String, Tuple<Integer, Integer>> setupIndex(RandomIndexWriter iw) throws IOException {
+        return setupIndex(iw, false);
+    }
+
+    private static Map<String, Tuple<Integer, Integer>> setupIndex(RandomIndexWriter iw, boolean indexJoinField) throws IOException {
         Map<String, Tuple<Integer, Integer>> expectedValues = new HashMap<>();
         int numParents = randomIntBetween(1, 10);
         for (int i = 0; i < numParents; i++) {
             String parent = "parent" + i;
-            iw.addDocument(createParentDocument(parent, i % 2 == 0 ? "even" : "odd"));
+            List<Field> parentDocument = createParentDocument(parent, i % 2 == 0 ? "even" : "odd");
+            iw.addDocument(withIndexedJoinField(parentDocument, parent, indexJoinField));
             int numChildren = randomIntBetween(1, 10);
             int minValue = Integer.MAX_VALUE;
             for (int c = 0; c < numChildren; c++) {
                 int randomValue = randomIntBetween(0, 100);
                 minValue = Math.min(minValue, randomValue);
-                iw.addDocument(createChildDocument("child" + c + "_" + parent, parent, randomValue));
+                List<Field> childDocument = createChildDocument("child" + c + "_" + parent, parent, randomValue);
+                iw.addDocument(withIndexedJoinField(childDocument, parent, indexJoinField));
             }
             expectedValues.put(parent, new Tuple<>(numChildren, minValue));
         }
@@ -245,6 +264,15 @@ public class ParentToChildrenAggregatorTests extends AggregatorTestCase {
         );
     }
 
+    private static List<Field> withIndexedJoinField(List<Field> fields, String id, boolean indexJoinField) {
+        if (indexJoinField == false) {
+            return fields;
+        }
+        List<Field> withJoinField = new ArrayList<>(fields);
+        withJoinField.add(new StringField("join_field#" + PARENT_TYPE, id, Field.Store.NO));
+        return withJoinField;
+    }
+
     private static SortedDocValuesField createJoinField(String parentType, String id) {
         return new SortedDocValuesField("join_field#" + parentType, new BytesRef(id));
     }
@@ -32,6 +32,7 @@
 
 package org.opensearch.percolator;
 
+import org.apache.lucene.index.BinaryDocValues;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
@@ -47,12 +48,16 @@ import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TwoPhaseIterator;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BitUtil;
 import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.CheckedFunction;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.core.common.bytes.BytesReference;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -68,6 +73,8 @@ final class PercolateQuery extends Query implements Accountable {
     private final Query verifiedMatchesQuery;
     private final IndexSearcher percolatorIndexSearcher;
     private final Query nonNestedDocsFilter;
+    private final String requiredTermsField;
+    private final long[] documentTermHashes;
 
     PercolateQuery(
         String name,
@@ -78,6 +85,36 @@ final class PercolateQuery extends Query implements Accountable {
         Query nonNestedDocsFilter,
         Query verifiedMatchesQuery
     ) {
+        this(
+            name,
+            queryStore,
+            documents,
+            candidateMatchesQuery,
+            percolatorIndexSearcher,
+            nonNestedDocsFilter,
+            verifiedMatchesQuery,
+            null,
+            null
+        );
+    }
+
+    /**
+     * @param requiredTermsField the binary doc values field holding the hashes of the terms a percolator query requires,
+     *                           or <code>null</code> if candidate matches shouldn't be pre-filtered on their required terms
+     * @param documentTermHashes the sorted hashes of all terms of the document(s) being percolated
+     */
+    PercolateQuery(
+        String name,
+        QueryStore queryStore,
+        List<BytesReference> documents,
+        Query candidateMatchesQuery,
+        IndexSearcher percolatorIndexSearcher,
+        Query nonNestedDocsFilter,
+        Query verifiedMatchesQuery,
+        String requiredTermsField,
+        long[] documentTermHashes
+    ) {
+        assert (requiredTermsField == null) == (documentTermHashes == null);
         this.name = name;
         this.documents = Objects.requireNonNull(documents);
         this.candidateMatchesQuery = Objects.requireNonNull(candidateMatchesQuery);
@@ -85,6 +122,8 @@ final class PercolateQuery extends Query implements Accountable {
         this.percolatorIndexSearcher = Objects.requireNonNull(percolatorIndexSearcher);
         this.nonNestedDocsFilter = nonNestedDocsFilter;
         this.verifiedMatchesQuery = Objects.requireNonNull(verifiedMatchesQuery);
+        this.requiredTermsField = requiredTermsField;
+        this.documentTermHashes = documentTermHashes;
     }
 
     @Override
@@ -98,7 +137,9 @@ final class PercolateQuery extends Query implements Accountable {
                 rewritten,
                 percolatorIndexSearcher,
                 nonNestedDocsFilter,
-                verifiedMatchesQuery
+                verifiedMatchesQuery,
+                requiredTermsField,
+                documentTermHashes
             );
         } else {
             return this;
@@ -141,6 +182,9 @@ final class PercolateQuery extends Query implements Accountable {
                 }
 
                 final CheckedFunction<Integer, Query, IOException> percolatorQueries = queryStore.getQueries(leafReaderContext);
+                final BinaryDocValues requiredTerms = requiredTermsField != null
+                    ? leafReaderContext.reader().getBinaryDocValues(requiredTermsField)
+                    : null;
                 if (scoreMode.needsScores()) {
                     return new DefaultScorerSupplier(new BaseScorer(this, approximation) {
 
@@ -148,6 +192,9 @@ final class PercolateQuery extends Query implements Accountable {
 
                         @Override
                         boolean matchDocId(int docId) throws IOException {
+                            if (containsRequiredTerms(requiredTerms, docId) == false) {
+                                return false;
+                            }
                             Query query = percolatorQueries.apply(docId);
                             if (query != null) {
                                 if (nonNestedDocsFilter != null) {
@@ -191,6 +238,11 @@ final class PercolateQuery extends Query implements Accountable {
                             if (verifiedDocsBits.get(docId)) {
                                 return true;
                             }
+                            // Cheaply discard candidates that require terms the document(s) don't have,
+                            // before doing the expensive MemoryIndex verification.
+                            if (containsRequiredTerms(requiredTerms, docId) == false) {
+                                return false;
+                            }
                             Query query = percolatorQueries.apply(docId);
                             if (query == null) {
                                 return false;
@@ -213,6 +265,21 @@ final class PercolateQuery extends Query implements Accountable {
         };
     }
 
+    private boolean containsRequiredTerms(BinaryDocValues requiredTerms, int docId) throws IOException {
+        if (requiredTerms == null || requiredTerms.advanceExact(docId) == false) {
+            return true;
+        }
+        BytesRef encoded = requiredTerms.binaryValue();
+        int end = encoded.offset + encoded.length;
+        for (int offset = encoded.offset; offset < end; offset += Long.BYTES) {
+            long hash = (long) BitUtil.VH_BE_LONG.get(encoded.bytes, offset);
+            if (Arrays.binarySearch(documentTermHashes, hash) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     String getName() {
         return name;
     }
@@ -277,6 +344,9 @@ final class PercolateQuery extends Query implements Accountable {
         for (BytesReference document : documents) {
             ramUsed += document.ramBytesUsed();
         }
+        if (documentTermHashes != null) {
+            ramUsed += RamUsageEstimator.sizeOf(documentTermHashes);
+        }
         return ramUsed;
     }
 
@@ -31,6 +31,7 @@
 
 package org.opensearch.percolator;
 
+import org.apache.lucene.document.BinaryDocValuesField;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.FieldType;
 import org.apache.lucene.document.NumericDocValuesField;
@@ -51,6 +52,7 @@ import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TermInSetQuery;
 import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.util.BitUtil;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefBuilder;
 import org.opensearch.Version;
@@ -122,6 +124,7 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
     static final String QUERY_BUILDER_FIELD_NAME = "query_builder_field";
     static final String RANGE_FIELD_NAME = "range_field";
     static final String MINIMUM_SHOULD_MATCH_FIELD_NAME = "minimum_should_match_field";
+    static final String REQUIRED_TERMS_FIELD_NAME = "required_terms_field";
 
     @Override
     public ParametrizedFieldMapper.Builder getMergeBuilder() {
@@ -167,6 +170,8 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
             fieldType.rangeField = rangeFieldMapper.fieldType();
             NumberFieldMapper minimumShouldMatchFieldMapper = createMinimumShouldMatchField(context);
             fieldType.minimumShouldMatchField = minimumShouldMatchFieldMapper.fieldType();
+            BinaryFieldMapper requiredTermsFieldMapper = createRequiredTermsField(context);
+            fieldType.requiredTermsField = requiredTermsFieldMapper.fieldType();
             fieldType.mapUnmappedFieldsAsText = mapUnmapped;
 
             context.path().remove();
@@ -181,6 +186,7 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
                 queryBuilderField,
                 rangeFieldMapper,
                 minimumShouldMatchFieldMapper,
+                requiredTermsFieldMapper,
                 mapUnmapped
             );
         }
@@ -223,6 +229,11 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
             return builder.build(context);
         }
 
+        static BinaryFieldMapper createRequiredTermsField(BuilderContext context) {
+            BinaryFieldMapper.Builder builder = new BinaryFieldMapper.Builder(REQUIRED_TERMS_FIELD_NAME, true);
+            return builder.build(context);
+        }
+
     }
 
     static class TypeParser implements FieldMapper.TypeParser {
@@ -239,6 +250,7 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
         MappedFieldType extractionResultField;
         MappedFieldType queryBuilderField;
         MappedFieldType minimumShouldMatchField;
+        MappedFieldType requiredTermsField;
 
         RangeFieldMapper.RangeFieldType rangeField;
         boolean mapUnmappedFieldsAsText;
@@ -271,7 +283,8 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
             Version indexVersion
         ) throws IOException {
             IndexReader indexReader = searcher.getIndexReader();
-            Tuple<BooleanQuery, Boolean> t = createCandidateQuery(indexReader, indexVersion);
+            Tuple<List<BytesRef>, Map<String, List<byte[]>>> termsAndRanges = extractTermsAndRanges(indexReader);
+            Tuple<BooleanQuery, Boolean> t = createCandidateQuery(termsAndRanges);
             Query candidateQuery = t.v1();
             boolean canUseMinimumShouldMatchField = t.v2();
 
@@ -290,11 +303,33 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
             if (excludeNestedDocuments) {
                 filter = Queries.newNonNestedFilter();
             }
-            return new PercolateQuery(name, queryStore, documents, candidateQuery, searcher, filter, verifiedMatchesQuery);
+            // When the CoveringQuery can't be used, the candidate query only requires a single extracted term to match.
+            // Percolator queries that require all of their extracted terms can then still be discarded without
+            // MemoryIndex verification, by checking their required terms against the terms of the document(s).
+            String requiredTermsFieldName = null;
+            long[] documentTermHashes = null;
+            if (canUseMinimumShouldMatchField == false) {
+                requiredTermsFieldName = requiredTermsField.name();
+                documentTermHashes = hashTerms(termsAndRanges.v1());
+            }
+            return new PercolateQuery(
+                name,
+                queryStore,
+                documents,
+                candidateQuery,
+                searcher,
+                filter,
+                verifiedMatchesQuery,
+                requiredTermsFieldName,
+                documentTermHashes
+            );
         }
 
         Tuple<BooleanQuery, Boolean> createCandidateQuery(IndexReader indexReader, Version indexVersion) throws IOException {
-            Tuple<List<BytesRef>, Map<String, List<byte[]>>> t = extractTermsAndRanges(indexReader);
+            return createCandidateQuery(extractTermsAndRanges(indexReader));
+        }
+
+        private Tuple<BooleanQuery, Boolean> createCandidateQuery(Tuple<List<BytesRef>, Map<String, List<byte[]>>> t) {
             List<BytesRef> extractedTerms = t.v1();
             Map<String, List<byte[]>> encodedPointValuesByField = t.v2();
             // `1 + ` is needed to take into account the EXTRACTION_FAILED should clause
@@ -369,6 +404,7 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
     private final KeywordFieldMapper extractionResultField;
     private final BinaryFieldMapper queryBuilderField;
     private final NumberFieldMapper minimumShouldMatchFieldMapper;
+    private final BinaryFieldMapper requiredTermsFieldMapper;
     private final RangeFieldMapper rangeFieldMapper;
     private final boolean mapUnmappedFieldsAsText;
 
@@ -383,6 +419,7 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
         BinaryFieldMapper queryBuilderField,
         RangeFieldMapper rangeFieldMapper,
         NumberFieldMapper minimumShouldMatchFieldMapper,
+        BinaryFieldMapper requiredTermsFieldMapper,
         boolean mapUnmappedFieldsAsText
     ) {
         super(simpleName, mappedFieldType, multiFields, copyTo);
@@ -391,6 +428,7 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
         this.extractionResultField = extractionResultField;
         this.queryBuilderField = queryBuilderField;
         this.minimumShouldMatchFieldMapper = minimumShouldMatchFieldMapper;
+        this.requiredTermsFieldMapper = requiredTermsFieldMapper;
         this.rangeFieldMapper = rangeFieldMapper;
         this.mapUnmappedFieldsAsText = mapUnmappedFieldsAsText;
     }
@@ -453,13 +491,24 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
             doc.add(new Field(pft.extractionResultField.name(), EXTRACTION_FAILED, INDEXED_KEYWORD));
             return;
         }
+        // If every extraction is required, then each extracted term must occur in a document for this query to match.
+        // A single required term is already enforced by the candidate query, so only record the required terms
+        // if there is more than one extraction.
+        boolean allExtractionsRequired = result.matchAllDocs == false
+            && result.extractions.size() > 1
+            && result.minimumShouldMatch == result.extractions.size();
+        List<BytesRef> requiredTerms = new ArrayList<>();
         for (QueryAnalyzer.QueryExtraction extraction : result.extractions) {
             if (extraction.term != null) {
                 BytesRefBuilder builder = new BytesRefBuilder();
                 builder.append(new BytesRef(extraction.field()));
                 builder.append(FIELD_VALUE_SEPARATOR);
                 builder.append(extraction.bytes());
-                doc.add(new Field(queryTermsField.name(), builder.toBytesRef(), INDEXED_KEYWORD));
+                BytesRef extractedTerm = builder.toBytesRef();
+                doc.add(new Field(queryTermsField.name(), extractedTerm, INDEXED_KEYWORD));
+                if (allExtractionsRequired) {
+                    requiredTerms.add(extractedTerm);
+                }
             } else if (extraction.range != null) {
                 byte[] min = extraction.range.lowerPoint;
                 byte[] max = extraction.range.upperPoint;
@@ -480,6 +529,9 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
 
         createFieldNamesField(context);
         doc.add(new NumericDocValuesField(minimumShouldMatchFieldMapper.name(), result.minimumShouldMatch));
+        if (requiredTerms.size() > 1) {
+            doc.add(new BinaryDocValuesField(requiredTermsFieldMapper.name(), encodeTermHashes(hashTerms(requiredTerms))));
+        }
     }
 
     static void configureContext(QueryShardContext context, boolean mapUnmappedFieldsAsString) {
@@ -514,6 +566,7 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
             extractionResultField,
             queryBuilderField,
             minimumShouldMatchFieldMapper,
+            requiredTermsFieldMapper,
             rangeFieldMapper
         ).iterator();
     }
@@ -570,6 +623,29 @@ public class PercolatorFieldMapper extends ParametrizedFieldMapper {
         }
     }
 
+    /**
+     * Hashes the provided extracted terms (field name, separator and term bytes) into a sorted array of hashes,
+     * which is the representation used to check whether a document contains the required terms of a percolator query.
+     */
+    static long[] hashTerms(List<BytesRef> extractedTerms) {
+        long[] hashes = new long[extractedTerms.size()];
+        MurmurHash3.Hash128 hash = new MurmurHash3.Hash128();
+        for (int i = 0; i < hashes.length; i++) {
+            BytesRef term = extractedTerms.get(i);
+            hashes[i] = MurmurHash3.hash128(term.bytes, term.offset, term.length, 0, hash).h1;
+        }
+        Arrays.sort(hashes);
+        return hashes;
+    }
+
+    static BytesRef encodeTermHashes(long[] hashes) {
+        byte[] bytes = new byte[hashes.length * Long.BYTES];
+        for (int i = 0; i < hashes.length; i++) {
+            BitUtil.VH_BE_LONG.set(bytes, i * Long.BYTES, hashes[i]);
+        }
+        return new BytesRef(bytes);
+    }
+
     static byte[] encodeRange(String rangeFieldName, byte[] minEncoded, byte[] maxEncoded) {
         assert minEncoded.length == maxEncoded.length;
         byte[] bytes = new byte[BinaryRange.BYTES * 2];
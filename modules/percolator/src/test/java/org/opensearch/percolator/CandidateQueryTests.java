@@ -1019,6 +1019,51 @@ public class CandidateQueryTests extends OpenSearchSingleNodeTestCase {
         }
     }
 
+    public void testDuelLargeDocument() throws Exception {
+        int numTerms = 2048;
+        List<String> documentTerms = new ArrayList<>();
+        List<String> otherTerms = new ArrayList<>();
+        for (int i = 0; i < numTerms; i++) {
+            // more than 1024 terms, so the candidate query can't use the CoveringQuery
+            (i < 1100 || randomBoolean() ? documentTerms : otherTerms).add("value" + i);
+        }
+
+        List<ParseContext.Document> docs = new ArrayList<>();
+        int numQueries = randomIntBetween(32, 128);
+        for (int i = 0; i < numQueries; i++) {
+            BooleanQuery.Builder builder = new BooleanQuery.Builder();
+            Occur occur = randomBoolean() ? Occur.MUST : randomFrom(Occur.FILTER, Occur.SHOULD);
+            int numClauses = randomIntBetween(2, 4);
+            for (int j = 0; j < numClauses; j++) {
+                // conjunctions that miss a single term of the document are candidates that the required terms discard
+                boolean inDocument = j < numClauses - 1 || randomBoolean();
+                String term = randomFrom(inDocument ? documentTerms : otherTerms);
+                builder.add(new TermQuery(new Term("field", term)), occur);
+            }
+            addQuery(builder.build(), docs);
+        }
+
+        indexWriter.addDocuments(docs);
+        indexWriter.close();
+        directoryReader = DirectoryReader.open(directory);
+        IndexSearcher shardSearcher = newSearcher(directoryReader);
+        shardSearcher.setQueryCache(null);
+
+        MemoryIndex memoryIndex = new MemoryIndex();
+        memoryIndex.addField("field", String.join(" ", documentTerms), new WhitespaceAnalyzer());
+        PercolateQuery query = (PercolateQuery) fieldType.percolateQuery(
+            "_name",
+            queryStore,
+            Collections.singletonList(new BytesArray("{}")),
+            memoryIndex.createSearcher(),
+            false,
+            Version.CURRENT
+        );
+        BooleanQuery candidateQuery = (BooleanQuery) query.getCandidateMatchesQuery();
+        assertThat(candidateQuery.clauses().get(0).query(), instanceOf(TermInSetQuery.class));
+        duelRun(queryStore, memoryIndex, shardSearcher);
+    }
+
     public void testDuplicatedClauses() throws Exception {
         List<ParseContext.Document> docs = new ArrayList<>();
 
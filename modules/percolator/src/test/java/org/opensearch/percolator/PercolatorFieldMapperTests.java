@@ -134,6 +134,7 @@ import static org.opensearch.percolator.PercolatorFieldMapper.EXTRACTION_PARTIAL
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
 
 public class PercolatorFieldMapperTests extends OpenSearchSingleNodeTestCase {
 
@@ -266,6 +267,8 @@ public class PercolatorFieldMapperTests extends OpenSearchSingleNodeTestCase {
         fields = new ArrayList<>(Arrays.asList(document.getFields(fieldType.minimumShouldMatchField.name())));
         assertThat(fields.size(), equalTo(1));
         assertThat(fields.get(0).numericValue(), equalTo(1L));
+        // a disjunction doesn't require all of its terms:
+        assertThat(document.getField(fieldType.requiredTermsField.name()), nullValue());
 
         // Now test conjunction:
         bq = new BooleanQuery.Builder();
@@ -286,6 +289,12 @@ public class PercolatorFieldMapperTests extends OpenSearchSingleNodeTestCase {
         fields = new ArrayList<>(Arrays.asList(document.getFields(fieldType.minimumShouldMatchField.name())));
         assertThat(fields.size(), equalTo(1));
         assertThat(fields.get(0).numericValue(), equalTo(2L));
+
+        BytesRef requiredTerms = document.getField(fieldType.requiredTermsField.name()).binaryValue();
+        long[] expectedHashes = PercolatorFieldMapper.hashTerms(
+            Arrays.asList(new BytesRef("field\u0000term1"), new BytesRef("field\u0000term2"))
+        );
+        assertThat(requiredTerms, equalTo(PercolatorFieldMapper.encodeTermHashes(expectedHashes)));
     }
 
     public void testExtractRanges() throws Exception {
@@ -39,6 +39,7 @@ import org.opensearch.action.search.SearchRequest;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.tasks.TaskId;
@@ -52,7 +53,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Collectors;
 
 /**
@@ -62,6 +65,20 @@ class BulkByScrollParallelizationHelper {
 
     static final int AUTO_SLICE_CEILING = 20;
 
+    /**
+     * The number of work units each slice of a sliced request is split into. Only as many work units as there are slices run at the
+     * same time and the next work unit is started as soon as one finishes, so slices that finish early pick up the remaining work
+     * instead of waiting on the slowest slice. The default of {@code 1} keeps a single work unit per slice.
+     */
+    static final Setting<Integer> WORK_UNITS_PER_SLICE_SETTING = Setting.intSetting(
+        "reindex.slices.work_units_per_slice",
+        1,
+        1,
+        64,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     private BulkByScrollParallelizationHelper() {}
 
     /**
@@ -84,9 +101,10 @@ class BulkByScrollParallelizationHelper {
         ActionListener<BulkByScrollResponse> listener,
         Client client,
         DiscoveryNode node,
+        int workUnitsPerSlice,
         Runnable workerAction
     ) {
-        initTaskState(task, request, client, new ActionListener<Void>() {
+        initTaskState(task, request, client, workUnitsPerSlice, new ActionListener<Void>() {
             @Override
             public void onResponse(Void aVoid) {
                 executeSlicedAction(metadata, task, request, action, listener, client, node, workerAction);
@@ -135,11 +153,16 @@ class BulkByScrollParallelizationHelper {
      * characteristics of the source indices. A request with {@code "auto"} slices may end up being sliced or
      * unsliced. This method does not execute the action. In order to execute the action see
      * {@link #executeSlicedAction}
+     * <p>
+     * If the request is sliced, each slice is split into {@code workUnitsPerSlice} work units, of which only as many as there are
+     * slices run at the same time. Requests limited by {@code max_docs} are not split, since {@code max_docs} is divided evenly between
+     * the sub-requests and each of them must be allowed at least one document.
      */
     static <Request extends AbstractBulkByScrollRequest<Request>> void initTaskState(
         BulkByScrollTask task,
         Request request,
         Client client,
+        int workUnitsPerSlice,
         ActionListener<Void> listener
     ) {
         int configuredSlices = request.getSlices();
@@ -149,7 +172,7 @@ class BulkByScrollParallelizationHelper {
             client.admin().cluster().searchShards(shardsRequest, new ActionListener<ClusterSearchShardsResponse>() {
                 @Override
                 public void onResponse(ClusterSearchShardsResponse response) {
-                    setWorkerCount(request, task, countSlicesBasedOnShards(response));
+                    setWorkerCount(request, task, countSlicesBasedOnShards(response), workUnitsPerSlice);
                     listener.onResponse(null);
                 }
 
@@ -159,7 +182,7 @@ class BulkByScrollParallelizationHelper {
                 }
             });
         } else {
-            setWorkerCount(request, task, configuredSlices);
+            setWorkerCount(request, task, configuredSlices, workUnitsPerSlice);
             listener.onResponse(null);
         }
     }
@@ -167,10 +190,12 @@ class BulkByScrollParallelizationHelper {
     private static <Request extends AbstractBulkByScrollRequest<Request>> void setWorkerCount(
         Request request,
         BulkByScrollTask task,
-        int slices
+        int slices,
+        int workUnitsPerSlice
     ) {
         if (slices > 1) {
-            task.setWorkerCount(slices);
+            int workUnits = request.getMaxDocs() == AbstractBulkByScrollRequest.MAX_DOCS_ALL_MATCHES ? workUnitsPerSlice : 1;
+            task.setWorkerCount(slices * workUnits, slices);
         } else {
             SliceBuilder sliceBuilder = request.getSearchRequest().source().slice();
             Integer sliceId = sliceBuilder == null ? null : sliceBuilder.getId();
@@ -198,34 +223,86 @@ class BulkByScrollParallelizationHelper {
 
         LeaderBulkByScrollTaskState worker = task.getLeaderState();
         int totalSlices = worker.getSlices();
+        int slices = worker.getMaxConcurrentSubtasks();
+        int workUnitsPerSlice = totalSlices / slices;
         for (String index : request.getSearchRequest().indices()) {
             IndexMetadata indexMetadata = metadata.index(index);
-            if (indexMetadata != null && IndexSettings.MAX_SLICES_PER_SCROLL.get(indexMetadata.getSettings()) < totalSlices) {
+            if (indexMetadata == null) {
+                continue;
+            }
+            int maxSlicesPerScroll = IndexSettings.MAX_SLICES_PER_SCROLL.get(indexMetadata.getSettings());
+            if (maxSlicesPerScroll < totalSlices) {
+                if (workUnitsPerSlice == 1) {
+                    throw new IllegalArgumentException(
+                        "The number of slices ["
+                            + totalSlices
+                            + "] is too large. It must "
+                            + "be less than ["
+                            + maxSlicesPerScroll
+                            + "]. "
+                            + "This limit can be set by changing the ["
+                            + IndexSettings.MAX_SLICES_PER_SCROLL.getKey()
+                            + "] index"
+                            + " level setting."
+                    );
+                }
+                // each work unit is a sliced scroll of its own, so the limit applies to the number of work units
                 throw new IllegalArgumentException(
                     "The number of slices ["
-                        + totalSlices
-                        + "] is too large. It must "
-                        + "be less than ["
-                        + IndexSettings.MAX_SLICES_PER_SCROLL.get(indexMetadata.getSettings())
+                        + slices
+                        + "] is too large. With ["
+                        + workUnitsPerSlice
+                        + "] work units per slice it must be at most ["
+                        + maxSlicesPerScroll / workUnitsPerSlice
                         + "]. "
                         + "This limit can be set by changing the ["
                         + IndexSettings.MAX_SLICES_PER_SCROLL.getKey()
-                        + "] index"
-                        + " level setting."
+                        + "] index level setting or the ["
+                        + WORK_UNITS_PER_SLICE_SETTING.getKey()
+                        + "] setting."
                 );
             }
         }
 
         TaskId parentTaskId = new TaskId(localNodeId, task.getId());
-        for (final SearchRequest slice : sliceIntoSubRequests(request.getSearchRequest(), IdFieldMapper.NAME, totalSlices)) {
-            // TODO move the request to the correct node. maybe here or somehow do it as part of startup for reindex in general....
-            Request requestForSlice = request.forSlice(parentTaskId, slice, totalSlices);
-            ActionListener<BulkByScrollResponse> sliceListener = ActionListener.wrap(
+        Queue<SearchRequest> pendingSlices = new ConcurrentLinkedQueue<>(
+            Arrays.asList(sliceIntoSubRequests(request.getSearchRequest(), IdFieldMapper.NAME, totalSlices))
+        );
+        for (int i = 0; i < worker.getMaxConcurrentSubtasks(); i++) {
+            sendNextSubRequest(client, action, parentTaskId, worker, request, pendingSlices, listener);
+        }
+    }
+
+    /**
+     * Sends the next pending slice, if any. Once it completes the next pending slice is sent, so that at most
+     * {@link LeaderBulkByScrollTaskState#getMaxConcurrentSubtasks()} slices run at the same time.
+     */
+    private static <Request extends AbstractBulkByScrollRequest<Request>> void sendNextSubRequest(
+        Client client,
+        ActionType<BulkByScrollResponse> action,
+        TaskId parentTaskId,
+        LeaderBulkByScrollTaskState worker,
+        Request request,
+        Queue<SearchRequest> pendingSlices,
+        ActionListener<BulkByScrollResponse> listener
+    ) {
+        final SearchRequest slice = pendingSlices.poll();
+        if (slice == null) {
+            return;
+        }
+        // TODO move the request to the correct node. maybe here or somehow do it as part of startup for reindex in general....
+        Request requestForSlice = request.forSlice(parentTaskId, slice, worker.getSlices());
+        // Split requests per second between the slices that run concurrently, taking into account any rethrottle that happened
+        // since the request started
+        requestForSlice.setRequestsPerSecond(worker.subtaskRequestsPerSecond(request.getRequestsPerSecond()));
+        ActionListener<BulkByScrollResponse> sliceListener = ActionListener.runAfter(
+            ActionListener.wrap(
                 r -> worker.onSliceResponse(listener, slice.source().slice().getId(), r),
                 e -> worker.onSliceFailure(listener, slice.source().slice().getId(), e)
-            );
-            client.execute(action, requestForSlice, sliceListener);
-        }
+            ),
+            () -> sendNextSubRequest(client, action, parentTaskId, worker, request, pendingSlices, listener)
+        );
+        client.execute(action, requestForSlice, sliceListener);
     }
 
     /**
@@ -133,6 +133,7 @@ public class ReindexModulePlugin extends Plugin implements ActionPlugin, Extensi
         settings.add(TransportReindexAction.REMOTE_CLUSTER_ALLOWLIST);
         settings.add(TransportReindexAction.REMOTE_REINDEX_RETRY_INITIAL_BACKOFF);
         settings.add(TransportReindexAction.REMOTE_REINDEX_RETRY_MAX_COUNT);
+        settings.add(BulkByScrollParallelizationHelper.WORK_UNITS_PER_SLICE_SETTING);
         settings.addAll(ReindexSslConfig.getSettings());
         return settings;
     }
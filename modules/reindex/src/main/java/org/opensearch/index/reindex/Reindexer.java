@@ -127,7 +127,13 @@ public class Reindexer {
     }
 
     public void initTask(BulkByScrollTask task, ReindexRequest request, ActionListener<Void> listener) {
-        BulkByScrollParallelizationHelper.initTaskState(task, request, client, listener);
+        BulkByScrollParallelizationHelper.initTaskState(
+            task,
+            request,
+            client,
+            clusterService.getClusterSettings().get(BulkByScrollParallelizationHelper.WORK_UNITS_PER_SLICE_SETTING),
+            listener
+        );
     }
 
     public void execute(BulkByScrollTask task, ReindexRequest request, ActionListener<BulkByScrollResponse> listener) {
@@ -325,7 +331,9 @@ public class Reindexer {
                     this::finishHim,
                     restClient,
                     remoteInfo.getQuery(),
-                    mainRequest.getSearchRequest()
+                    mainRequest.getSearchRequest(),
+                    // fetch the next batch from the remote while the current one is being indexed locally
+                    true
                 );
             }
             return super.buildScrollableResultSource(backoffPolicy);
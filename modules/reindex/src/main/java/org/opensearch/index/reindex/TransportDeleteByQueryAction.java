@@ -92,6 +92,7 @@ public class TransportDeleteByQueryAction extends HandledTransportAction<DeleteB
             listener,
             client,
             clusterService.localNode(),
+            clusterService.getClusterSettings().get(BulkByScrollParallelizationHelper.WORK_UNITS_PER_SLICE_SETTING),
             () -> {
                 ParentTaskAssigningClient assigningClient = new ParentTaskAssigningClient(
                     client,
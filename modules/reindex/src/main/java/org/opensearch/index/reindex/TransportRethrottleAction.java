@@ -110,11 +110,14 @@ public class TransportRethrottleAction extends TransportTasksAction<BulkByScroll
         ActionListener<TaskInfo> listener
     ) {
         final LeaderBulkByScrollTaskState leaderState = task.getLeaderState();
-        final int runningSubtasks = leaderState.runningSliceSubTasks();
+        // Slice subtasks that haven't been started yet will pick up the new throttle when they start
+        leaderState.rethrottle(newRequestsPerSecond);
+        final int runningSubtasks = leaderState.concurrentSliceSubTasks();
 
         if (runningSubtasks > 0) {
             RethrottleRequest subRequest = new RethrottleRequest();
-            subRequest.setRequestsPerSecond(newRequestsPerSecond / runningSubtasks);
+            // running subtasks get the same share as the ones started later
+            subRequest.setRequestsPerSecond(leaderState.subtaskRequestsPerSecond(newRequestsPerSecond));
             subRequest.setParentTaskId(new TaskId(localNodeId, task.getId()));
             logger.debug("rethrottling children of task [{}] to [{}] requests per second", task.getId(), subRequest.getRequestsPerSecond());
             client.execute(RethrottleAction.INSTANCE, subRequest, ActionListener.wrap(r -> {
@@ -102,6 +102,7 @@ public class TransportUpdateByQueryAction extends HandledTransportAction<UpdateB
             listener,
             client,
             clusterService.localNode(),
+            clusterService.getClusterSettings().get(BulkByScrollParallelizationHelper.WORK_UNITS_PER_SLICE_SETTING),
             () -> {
                 ClusterState state = clusterService.state();
                 ParentTaskAssigningClient assigningClient = new ParentTaskAssigningClient(
@@ -50,8 +50,11 @@ import org.opensearch.client.ResponseListener;
 import org.opensearch.client.RestClient;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ListenableFuture;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.rest.RestStatus;
@@ -68,6 +71,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.ConnectException;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
@@ -80,6 +84,12 @@ public class RemoteScrollableHitSource extends ScrollableHitSource {
     private final RestClient client;
     private final BytesReference query;
     private final SearchRequest searchRequest;
+    private final boolean prefetchNextBatch;
+    /**
+     * The next scroll batch, requested from the remote while the current batch is being processed locally. Only used if
+     * {@link #prefetchNextBatch} is set.
+     */
+    private final AtomicReference<PrefetchedBatch> prefetchedBatch = new AtomicReference<>();
     RemoteVersion remoteVersion;
 
     public RemoteScrollableHitSource(
@@ -92,11 +102,32 @@ public class RemoteScrollableHitSource extends ScrollableHitSource {
         RestClient client,
         BytesReference query,
         SearchRequest searchRequest
+    ) {
+        this(logger, backoffPolicy, threadPool, countSearchRetry, onResponse, fail, client, query, searchRequest, false);
+    }
+
+    /**
+     * @param prefetchNextBatch whether to request the next scroll batch from the remote as soon as a batch is handed out for
+     *                          processing, so that fetching from the remote overlaps with the local bulk requests. This keeps at most
+     *                          one extra batch in memory.
+     */
+    public RemoteScrollableHitSource(
+        Logger logger,
+        BackoffPolicy backoffPolicy,
+        ThreadPool threadPool,
+        Runnable countSearchRetry,
+        Consumer<AsyncResponse> onResponse,
+        Consumer<Exception> fail,
+        RestClient client,
+        BytesReference query,
+        SearchRequest searchRequest,
+        boolean prefetchNextBatch
     ) {
         super(logger, backoffPolicy, threadPool, countSearchRetry, onResponse, fail);
         this.query = query;
         this.searchRequest = searchRequest;
         this.client = client;
+        this.prefetchNextBatch = prefetchNextBatch;
     }
 
     @Override
@@ -128,15 +159,82 @@ public class RemoteScrollableHitSource extends ScrollableHitSource {
             logger.debug("First response looks like a scan response. Jumping right to the second. scroll=[{}]", response.getScrollId());
             doStartNextScroll(response.getScrollId(), timeValueMillis(0), searchListener);
         } else {
+            maybePrefetchNextBatch(response, timeValueMillis(0));
             searchListener.onResponse(response);
         }
     }
 
     @Override
     protected void doStartNextScroll(String scrollId, TimeValue extraKeepAlive, RejectAwareActionListener<Response> searchListener) {
+        PrefetchedBatch prefetched = prefetchedBatch.getAndSet(null);
+        if (prefetched != null && prefetched.scrollId.equals(scrollId)) {
+            logger.trace("Using prefetched scroll batch");
+            prefetched.future.addListener(ActionListener.wrap(response -> {
+                maybePrefetchNextBatch(response, extraKeepAlive);
+                searchListener.onResponse(response);
+            }, e -> {
+                if (prefetched.rejected) {
+                    // The prefetch isn't retried, so fetch the batch again with the usual retries
+                    logger.debug("Prefetching the next scroll batch was rejected, fetching it again", e);
+                    fetchNextBatch(scrollId, extraKeepAlive, searchListener);
+                } else {
+                    searchListener.onFailure(e);
+                }
+            }), OpenSearchExecutors.newDirectExecutorService());
+            return;
+        }
+        fetchNextBatch(scrollId, extraKeepAlive, searchListener);
+    }
+
+    private void fetchNextBatch(String scrollId, TimeValue extraKeepAlive, RejectAwareActionListener<Response> searchListener) {
         logger.trace("Starting next scroll call");
         TimeValue keepAlive = timeValueNanos(searchRequest.scroll().keepAlive().nanos() + extraKeepAlive.nanos());
-        executeWithRetries(RemoteRequestBuilders.scroll(scrollId, keepAlive, remoteVersion), RESPONSE_PARSER, searchListener);
+        executeWithRetries(
+            RemoteRequestBuilders.scroll(scrollId, keepAlive, remoteVersion),
+            RESPONSE_PARSER,
+            RejectAwareActionListener.withResponseHandler(searchListener, response -> {
+                maybePrefetchNextBatch(response, extraKeepAlive);
+                searchListener.onResponse(response);
+            })
+        );
+    }
+
+    /**
+     * Requests the batch following {@code response} from the remote, if prefetching is enabled and there may be more hits. The scroll
+     * context has to stay alive until the prefetched batch is handed out, which happens after {@code response} is processed, so the
+     * prefetch request uses the same extra keep alive as the request that fetched {@code response}.
+     */
+    private void maybePrefetchNextBatch(Response response, TimeValue extraKeepAlive) {
+        if (prefetchNextBatch == false || Strings.hasLength(response.getScrollId()) == false || response.getHits().isEmpty()) {
+            return;
+        }
+        logger.trace("Prefetching next scroll batch");
+        PrefetchedBatch prefetched = new PrefetchedBatch(response.getScrollId());
+        prefetchedBatch.set(prefetched);
+        TimeValue keepAlive = timeValueNanos(searchRequest.scroll().keepAlive().nanos() + extraKeepAlive.nanos());
+        // No retries here, a rejected prefetch is retried when the batch is actually needed
+        execute(
+            RemoteRequestBuilders.scroll(response.getScrollId(), keepAlive, remoteVersion),
+            RESPONSE_PARSER,
+            RejectAwareActionListener.wrap(prefetched.future::onResponse, prefetched.future::onFailure, e -> {
+                prefetched.rejected = true;
+                prefetched.future.onFailure(e);
+            })
+        );
+    }
+
+    /**
+     * A scroll batch that was requested ahead of time, along with the scroll id it was requested with and whether the remote
+     * rejected the request, in which case it can be retried.
+     */
+    private static final class PrefetchedBatch {
+        private final String scrollId;
+        private final ListenableFuture<Response> future = new ListenableFuture<>();
+        private volatile boolean rejected;
+
+        private PrefetchedBatch(String scrollId) {
+            this.scrollId = scrollId;
+        }
     }
 
     @Override
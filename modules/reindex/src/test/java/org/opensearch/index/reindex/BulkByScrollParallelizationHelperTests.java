@@ -32,17 +32,37 @@
 
 package org.opensearch.index.reindex;
 
+import org.opensearch.Version;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionType;
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.client.NoOpClient;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.Collections.emptyList;
+import static org.opensearch.common.unit.TimeValue.timeValueMillis;
 import static org.opensearch.index.reindex.BulkByScrollParallelizationHelper.sliceIntoSubRequests;
 import static org.opensearch.search.RandomSearchRequestGenerator.randomSearchRequest;
 import static org.opensearch.search.RandomSearchRequestGenerator.randomSearchSourceBuilder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class BulkByScrollParallelizationHelperTests extends OpenSearchTestCase {
     public void testSliceIntoSubRequests() throws IOException {
@@ -71,4 +91,132 @@ public class BulkByScrollParallelizationHelperTests extends OpenSearchTestCase {
             currentSliceId++;
         }
     }
+
+    public void testWorkUnitsRunWithBoundedConcurrency() {
+        int slices = between(2, 10);
+        int workUnitsPerSlice = between(1, 5);
+        int workUnits = slices * workUnitsPerSlice;
+        float requestsPerSecond = between(1, 1000);
+
+        BulkByScrollTask task = new BulkByScrollTask(1, "test_type", "test_action", "test", TaskId.EMPTY_TASK_ID, Collections.emptyMap());
+        task.setWorkerCount(workUnits, slices);
+        DeleteByQueryRequest request = new DeleteByQueryRequest("test");
+        request.setSlices(slices);
+        request.setRequestsPerSecond(requestsPerSecond);
+
+        List<DeleteByQueryRequest> sent = new ArrayList<>();
+        List<ActionListener<BulkByScrollResponse>> inFlight = new ArrayList<>();
+        AtomicReference<BulkByScrollResponse> finalResponse = new AtomicReference<>();
+        try (NoOpClient client = new NoOpClient(getTestName()) {
+            @Override
+            @SuppressWarnings("unchecked")
+            protected <Req extends ActionRequest, Resp extends ActionResponse> void doExecute(
+                ActionType<Resp> action,
+                Req subRequest,
+                ActionListener<Resp> listener
+            ) {
+                sent.add((DeleteByQueryRequest) subRequest);
+                inFlight.add((ActionListener<BulkByScrollResponse>) listener);
+            }
+        }) {
+            DiscoveryNode node = new DiscoveryNode("node", buildNewFakeTransportAddress(), Version.CURRENT);
+            BulkByScrollParallelizationHelper.executeSlicedAction(
+                Metadata.EMPTY_METADATA,
+                task,
+                request,
+                DeleteByQueryAction.INSTANCE,
+                ActionListener.wrap(finalResponse::set, e -> { throw new AssertionError(e); }),
+                client,
+                node,
+                () -> fail("leader shouldn't run the worker action")
+            );
+
+            Set<Integer> sliceIds = new HashSet<>();
+            while (inFlight.isEmpty() == false) {
+                assertThat(inFlight.size(), lessThanOrEqualTo(slices));
+                assertNull(finalResponse.get());
+                DeleteByQueryRequest subRequest = sent.get(sliceIds.size());
+                int sliceId = subRequest.getSearchRequest().source().slice().getId();
+                assertEquals(workUnits, subRequest.getSearchRequest().source().slice().getMax());
+                assertEquals(requestsPerSecond / slices, subRequest.getRequestsPerSecond(), 0.00001f);
+                assertTrue(sliceIds.add(sliceId));
+                ActionListener<BulkByScrollResponse> listener = inFlight.remove(0);
+                listener.onResponse(
+                    new BulkByScrollResponse(
+                        timeValueMillis(1),
+                        new BulkByScrollTask.Status(sliceId, 0, 0, 0, 0, 0, 0, 0, 0, 0, timeValueMillis(0), 0, null, timeValueMillis(0)),
+                        emptyList(),
+                        emptyList(),
+                        false
+                    )
+                );
+            }
+            assertEquals(workUnits, sliceIds.size());
+            assertNotNull(finalResponse.get());
+        }
+    }
+
+    public void testMaxDocsDisablesWorkUnits() {
+        int slices = between(2, 10);
+        int workUnitsPerSlice = between(2, 5);
+
+        DeleteByQueryRequest request = new DeleteByQueryRequest("test");
+        request.setSlices(slices);
+        BulkByScrollTask task = new BulkByScrollTask(1, "test_type", "test_action", "test", TaskId.EMPTY_TASK_ID, Collections.emptyMap());
+        BulkByScrollParallelizationHelper.initTaskState(task, request, null, workUnitsPerSlice, ActionListener.wrap(r -> {}, e -> {
+            throw new AssertionError(e);
+        }));
+        assertEquals(slices * workUnitsPerSlice, task.getLeaderState().getSlices());
+
+        // max_docs is divided between the sub-requests, so it must not be spread over more of them than there are slices
+        request = new DeleteByQueryRequest("test");
+        request.setSlices(slices);
+        request.setMaxDocs(slices);
+        task = new BulkByScrollTask(1, "test_type", "test_action", "test", TaskId.EMPTY_TASK_ID, Collections.emptyMap());
+        BulkByScrollParallelizationHelper.initTaskState(task, request, null, workUnitsPerSlice, ActionListener.wrap(r -> {}, e -> {
+            throw new AssertionError(e);
+        }));
+        assertEquals(slices, task.getLeaderState().getSlices());
+        assertEquals(slices, task.getLeaderState().getMaxConcurrentSubtasks());
+    }
+
+    public void testWorkUnitsLimitedByMaxSlicesPerScroll() {
+        int slices = 3;
+        int workUnitsPerSlice = 2;
+        int maxSlicesPerScroll = 5;
+        Metadata metadata = Metadata.builder()
+            .put(
+                IndexMetadata.builder("test")
+                    .settings(settings(Version.CURRENT).put(IndexSettings.MAX_SLICES_PER_SCROLL.getKey(), maxSlicesPerScroll))
+                    .numberOfShards(1)
+                    .numberOfReplicas(0)
+            )
+            .build();
+        DeleteByQueryRequest request = new DeleteByQueryRequest("test");
+        request.setSlices(slices);
+
+        BulkByScrollTask task = new BulkByScrollTask(1, "test_type", "test_action", "test", TaskId.EMPTY_TASK_ID, Collections.emptyMap());
+        task.setWorkerCount(slices * workUnitsPerSlice, slices);
+        DiscoveryNode node = new DiscoveryNode("node", buildNewFakeTransportAddress(), Version.CURRENT);
+        try (NoOpClient client = new NoOpClient(getTestName())) {
+            IllegalArgumentException e = expectThrows(
+                IllegalArgumentException.class,
+                () -> BulkByScrollParallelizationHelper.executeSlicedAction(
+                    metadata,
+                    task,
+                    request,
+                    DeleteByQueryAction.INSTANCE,
+                    ActionListener.wrap(r -> fail("request should have been rejected"), ex -> { throw new AssertionError(ex); }),
+                    client,
+                    node,
+                    () -> fail("leader shouldn't run the worker action")
+                )
+            );
+            // the limit is reported in terms of the slices of the request rather than the number of work units
+            assertThat(e.getMessage(), containsString("The number of slices [3] is too large"));
+            assertThat(e.getMessage(), containsString("With [2] work units per slice it must be at most [2]"));
+            assertThat(e.getMessage(), containsString(IndexSettings.MAX_SLICES_PER_SCROLL.getKey()));
+            assertThat(e.getMessage(), containsString(BulkByScrollParallelizationHelper.WORK_UNITS_PER_SLICE_SETTING.getKey()));
+        }
+    }
 }
@@ -99,7 +99,14 @@ public class TransportRethrottleActionTests extends OpenSearchTestCase {
             verify(client).execute(eq(RethrottleAction.INSTANCE), subRequest.capture(), subListener.capture());
 
             assertEquals(new TaskId(localNodeId, task.getId()), subRequest.getValue().getParentTaskId());
-            assertEquals(newRequestsPerSecond / runningSlices, subRequest.getValue().getRequestsPerSecond(), 0.00001f);
+            int maxConcurrentSlices = task.getLeaderState().getMaxConcurrentSubtasks();
+            assertEquals(newRequestsPerSecond / maxConcurrentSlices, subRequest.getValue().getRequestsPerSecond(), 0.00001f);
+            // subtasks started after the rethrottle get the same share
+            assertEquals(
+                task.getLeaderState().subtaskRequestsPerSecond(randomFloat()),
+                subRequest.getValue().getRequestsPerSecond(),
+                0.00001f
+            );
 
             simulator.accept(subListener.getValue());
         }
@@ -182,6 +189,36 @@ public class TransportRethrottleActionTests extends OpenSearchTestCase {
         );
     }
 
+    public void testRethrottleWithFewerConcurrentSlices() {
+        int maxConcurrentSlices = between(1, slices - 1);
+        task = new BulkByScrollTask(1, "test_type", "test_action", "test", TaskId.EMPTY_TASK_ID, Collections.emptyMap());
+        task.setWorkerCount(slices, maxConcurrentSlices);
+        List<TaskInfo> tasks = new ArrayList<>();
+        for (int i = 0; i < maxConcurrentSlices; i++) {
+            tasks.add(
+                new TaskInfo(
+                    new TaskId("test", 123),
+                    "test",
+                    "test",
+                    "test",
+                    believeableInProgressStatus(i),
+                    0,
+                    0,
+                    true,
+                    false,
+                    new TaskId("test", task.getId()),
+                    Collections.emptyMap(),
+                    null
+                )
+            );
+        }
+        rethrottleTestCase(
+            maxConcurrentSlices,
+            listener -> listener.onResponse(new ListTasksResponse(tasks, emptyList(), emptyList())),
+            listener -> captureResponse(TaskInfo.class, listener)
+        );
+    }
+
     public void testRethrottleWithAllSucceeded() {
         List<BulkByScrollTask.StatusOrException> sliceStatuses = new ArrayList<>(slices);
         for (int i = 0; i < slices; i++) {
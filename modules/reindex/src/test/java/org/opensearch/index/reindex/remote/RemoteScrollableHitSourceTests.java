@@ -102,6 +102,7 @@ import org.mockito.Mockito;
 
 import static org.opensearch.common.unit.TimeValue.timeValueMillis;
 import static org.opensearch.common.unit.TimeValue.timeValueMinutes;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
@@ -116,6 +117,8 @@ public class RemoteScrollableHitSourceTests extends OpenSearchTestCase {
     private ThreadPool threadPool;
     private SearchRequest searchRequest;
     private int retriesAllowed;
+    private boolean prefetchNextBatch;
+    private final AtomicInteger remoteRequests = new AtomicInteger();
 
     private final Queue<ScrollableHitSource.AsyncResponse> responseQueue = new LinkedBlockingQueue<>();
 
@@ -141,6 +144,8 @@ public class RemoteScrollableHitSourceTests extends OpenSearchTestCase {
         searchRequest.scroll(timeValueMinutes(5));
         searchRequest.source(new SearchSourceBuilder().size(10).version(true).sort("_doc").size(123));
         retriesAllowed = 0;
+        prefetchNextBatch = false;
+        remoteRequests.set(0);
     }
 
     @After
@@ -208,6 +213,83 @@ public class RemoteScrollableHitSourceTests extends OpenSearchTestCase {
         assertTrue(called.get());
     }
 
+    public void testPrefetchNextBatch() throws Exception {
+        prefetchNextBatch = true;
+        RemoteScrollableHitSource source = sourceWithMockedRemoteCall("start_ok.json", "scroll_ok.json", "scroll_empty.json");
+
+        AtomicBoolean called = new AtomicBoolean();
+        source.doStart(wrapAsListener(r -> {
+            assertEquals("AVToMiC250DjIiBO3yJ_", r.getHits().get(0).getId());
+            called.set(true);
+        }));
+        assertTrue(called.get());
+        // the next batch is requested before it is asked for
+        assertEquals(2, remoteRequests.get());
+
+        called.set(false);
+        source.doStartNextScroll(FAKE_SCROLL_ID, timeValueMillis(0), wrapAsListener(r -> {
+            assertEquals("AVToMiDL50DjIiBO3yKA", r.getHits().get(0).getId());
+            called.set(true);
+        }));
+        assertTrue(called.get());
+        assertEquals(3, remoteRequests.get());
+
+        called.set(false);
+        source.doStartNextScroll(FAKE_SCROLL_ID, timeValueMillis(0), wrapAsListener(r -> {
+            assertThat(r.getHits(), empty());
+            called.set(true);
+        }));
+        assertTrue(called.get());
+        // nothing is prefetched after an empty batch
+        assertEquals(3, remoteRequests.get());
+    }
+
+    public void testRejectedPrefetchIsFetchedAgain() throws Exception {
+        prefetchNextBatch = true;
+        retriesAllowed = between(1, 10);
+        RemoteScrollableHitSource source = sourceWithMockedRemoteCall(
+            "start_ok.json",
+            "fail:rejection.json",
+            "scroll_ok.json",
+            "scroll_empty.json"
+        );
+
+        AtomicBoolean called = new AtomicBoolean();
+        source.doStart(wrapAsListener(r -> called.set(true)));
+        assertTrue(called.get());
+        assertEquals(2, remoteRequests.get());
+
+        called.set(false);
+        source.doStartNextScroll(FAKE_SCROLL_ID, timeValueMillis(0), wrapAsListener(r -> {
+            assertEquals("AVToMiDL50DjIiBO3yKA", r.getHits().get(0).getId());
+            called.set(true);
+        }));
+        assertTrue(called.get());
+        // the rejected batch was fetched again and the one after it prefetched
+        assertEquals(4, remoteRequests.get());
+        assertEquals(0, retries);
+    }
+
+    public void testFailedPrefetchIsNotFetchedAgain() throws Exception {
+        prefetchNextBatch = true;
+        retriesAllowed = between(1, 10);
+        RemoteScrollableHitSource source = sourceWithMockedRemoteCall("start_ok.json", "fail:scroll_ok.json");
+
+        AtomicBoolean called = new AtomicBoolean();
+        source.doStart(wrapAsListener(r -> called.set(true)));
+        assertTrue(called.get());
+        assertEquals(2, remoteRequests.get());
+
+        RuntimeException e = expectListenerFailure(
+            RuntimeException.class,
+            (RejectAwareActionListener<Response> listener) -> source.doStartNextScroll(FAKE_SCROLL_ID, timeValueMillis(0), listener)
+        );
+        assertThat(e.getMessage(), containsString(FAKE_SCROLL_ID));
+        // failures other than rejections are passed on rather than retried
+        assertEquals(2, remoteRequests.get());
+        assertEquals(0, retries);
+    }
+
     /**
      * Test for parsing _ttl, _timestamp, _routing, and _parent.
      */
@@ -602,6 +684,7 @@ public class RemoteScrollableHitSourceTests extends OpenSearchTestCase {
                 FutureCallback<T> callback
             ) {
                 try {
+                    remoteRequests.incrementAndGet();
                     // Throw away the current thread context to simulate running async httpclient's thread pool
                     threadPool.getThreadContext().stashContext();
                     ClassicHttpRequest request = getRequest(requestProducer);
@@ -681,7 +764,8 @@ public class RemoteScrollableHitSourceTests extends OpenSearchTestCase {
                 RemoteScrollableHitSourceTests.this::failRequest,
                 client,
                 new BytesArray("{}"),
-                RemoteScrollableHitSourceTests.this.searchRequest
+                RemoteScrollableHitSourceTests.this.searchRequest,
+                RemoteScrollableHitSourceTests.this.prefetchNextBatch
             );
         }
     }
@@ -28,7 +28,8 @@ public interface ExchangeSink {
 
     /**
      * Ingest an Arrow batch into this sink. The sink takes ownership of the
-     * batch and is responsible for releasing it when no longer needed.
+     * batch and is responsible for releasing it when no longer needed. If this
+     * method throws, the caller keeps ownership of the batch.
      */
     void feed(VectorSchemaRoot batch);
 
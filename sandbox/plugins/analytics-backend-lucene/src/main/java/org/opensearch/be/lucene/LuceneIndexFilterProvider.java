@@ -12,13 +12,13 @@ import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Scorer;
+import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.index.engine.exec.CollectorQueryLifecycleManager;
 import org.opensearch.index.engine.exec.IndexFilterProvider;
 import org.opensearch.index.engine.exec.SegmentCollector;
 
 import java.io.IOException;
-import java.util.BitSet;
 
 /**
  * Lucene-backed {@link IndexFilterProvider}.
@@ -111,7 +111,6 @@ public class LuceneIndexFilterProvider implements IndexFilterProvider<Query, Luc
                 return new long[0];
             }
 
-            BitSet bitset = new BitSet(effectiveMax - effectiveMin);
             try {
                 int docId = currentDoc;
                 if (docId == DocIdSetIterator.NO_MORE_DOCS || docId >= collectorMaxDoc) {
@@ -120,15 +119,18 @@ public class LuceneIndexFilterProvider implements IndexFilterProvider<Query, Luc
                 if (docId < effectiveMin) {
                     docId = iterator.advance(effectiveMin);
                 }
-                while (docId != DocIdSetIterator.NO_MORE_DOCS && docId < effectiveMax) {
-                    bitset.set(docId - effectiveMin);
-                    docId = iterator.nextDoc();
+                if (docId >= effectiveMax) {
+                    currentDoc = docId;
+                    return new long[0];
                 }
-                currentDoc = docId;
+                // bulk-load the window so iterators over dense postings or bitsets can fill whole words at once
+                FixedBitSet bitset = new FixedBitSet(effectiveMax - effectiveMin);
+                iterator.intoBitSet(effectiveMax, bitset, effectiveMin);
+                currentDoc = iterator.docID();
+                return bitset.getBits();
             } catch (IOException e) {
                 return new long[0];
             }
-            return bitset.toLongArray();
         }
     }
 }
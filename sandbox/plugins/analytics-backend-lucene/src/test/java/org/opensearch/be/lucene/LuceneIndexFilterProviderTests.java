@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.be.lucene;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.BitSet;
+
+/**
+ * Tests for {@link LuceneIndexFilterProvider}.
+ */
+public class LuceneIndexFilterProviderTests extends OpenSearchTestCase {
+
+    public void testCollectDocsInWindows() throws Exception {
+        final int numDocs = randomIntBetween(100, 1000);
+        final BitSet expected = new BitSet(numDocs);
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig())) {
+                for (int i = 0; i < numDocs; i++) {
+                    boolean match = randomBoolean();
+                    if (match) {
+                        expected.set(i);
+                    }
+                    Document doc = new Document();
+                    doc.add(new StringField("f", match ? "yes" : "no", Field.Store.NO));
+                    writer.addDocument(doc);
+                }
+                writer.forceMerge(1);
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                LuceneIndexFilterProvider provider = new LuceneIndexFilterProvider();
+                LuceneIndexFilterContext context = provider.createContext(new TermQuery(new Term("f", "yes")), reader);
+                int key = provider.createCollector(context, 0, 0, numDocs);
+
+                final int window = randomIntBetween(1, 200);
+                for (int min = 0; min < numDocs; min += window) {
+                    int max = Math.min(numDocs, min + window);
+                    BitSet actual = BitSet.valueOf(provider.collectDocs(context, key, min, max));
+                    assertEquals("window [" + min + ", " + max + ")", expected.get(min, max), actual);
+                }
+                // the collector is exhausted once it has been moved past the last window
+                assertEquals(0, provider.collectDocs(context, key, 0, numDocs).length);
+
+                provider.releaseCollector(context, key);
+                context.close();
+            }
+        }
+    }
+}
@@ -113,8 +113,8 @@ public class QueryContext {
     /**
      * Returns the per-query Arrow buffer allocator, creating it lazily on first access.
      * The allocator is a child of the shared root with a per-query memory limit.
-     * When the limit is exceeded, Arrow throws {@code OutOfMemoryException} which
-     * the stage catches and transitions to FAILED.
+     * When the limit is exceeded, Arrow throws {@code OutOfMemoryException}, which
+     * the stage reports as a {@code CircuitBreakingException} and transitions to FAILED.
      */
     public BufferAllocator bufferAllocator() {
         BufferAllocator alloc = bufferAllocator;
@@ -33,11 +33,16 @@ import java.util.List;
  * {@code fieldNames} initialization. This matches the pattern used by
  * {@code QueryPhaseResultConsumer} for coordinator-reduce in the core
  * search path.
+ *
+ * <p><b>Memory accounting:</b> the sink does not enforce a limit of its own.
+ * The batches are allocated from the per-query allocator, which already
+ * bounds them by the query's memory limit.
  */
 public class RowProducingSink implements ExchangeSink, ExchangeSource {
 
     private final List<VectorSchemaRoot> batches = new ArrayList<>();
     private final List<String> fieldNames = new ArrayList<>();
+    private long rowCount;
 
     @Override
     public synchronized void feed(VectorSchemaRoot batch) {
@@ -47,6 +52,7 @@ public class RowProducingSink implements ExchangeSink, ExchangeSource {
             }
         }
         batches.add(batch);
+        rowCount += batch.getRowCount();
     }
 
     @Override
@@ -55,6 +61,7 @@ public class RowProducingSink implements ExchangeSink, ExchangeSource {
             batch.close();
         }
         batches.clear();
+        rowCount = 0;
     }
 
     /**
@@ -68,11 +75,7 @@ public class RowProducingSink implements ExchangeSink, ExchangeSource {
 
     @Override
     public synchronized long getRowCount() {
-        long total = 0;
-        for (VectorSchemaRoot batch : batches) {
-            total += batch.getRowCount();
-        }
-        return total;
+        return rowCount;
     }
 
     /**
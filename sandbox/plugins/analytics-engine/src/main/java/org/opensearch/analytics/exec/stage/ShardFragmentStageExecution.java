@@ -8,6 +8,8 @@
 
 package org.opensearch.analytics.exec.stage;
 
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.OutOfMemoryException;
 import org.apache.arrow.vector.VectorSchemaRoot;
 import org.opensearch.analytics.backend.ExchangeSource;
 import org.opensearch.analytics.exec.AnalyticsSearchTransportService;
@@ -22,6 +24,8 @@ import org.opensearch.analytics.planner.dag.Stage;
 import org.opensearch.analytics.spi.DataConsumer;
 import org.opensearch.analytics.spi.ExchangeSink;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
 
 import java.util.List;
 import java.util.Map;
@@ -41,6 +45,10 @@ import java.util.function.Function;
  * import IPC buffers directly with zero conversion. The stage execution logic
  * is format-agnostic.
  *
+ * <p>Batches are decoded into the per-query allocator. A batch that would take
+ * the query over its memory limit fails the stage with a
+ * {@link CircuitBreakingException} rather than an Arrow {@code OutOfMemoryException}.
+ *
  * <p>Implements {@link DataProducer} because it writes batches into a sink
  * owned by its parent stage. Does not implement {@link DataConsumer} because
  * it is a leaf stage with no children.
@@ -108,8 +116,16 @@ final class ShardFragmentStageExecution extends AbstractStageExecution implement
                 config.searchExecutor().execute(() -> {
                     if (isDone()) return;
 
-                    VectorSchemaRoot vsr = responseCodec.decode(response, config.bufferAllocator());
-                    outputSink.feed(vsr);
+                    VectorSchemaRoot vsr;
+                    try {
+                        vsr = decodeAndFeed(responseCodec, response, config.bufferAllocator(), outputSink);
+                    } catch (Exception e) {
+                        captureFailure(new RuntimeException("Stage " + stage.getStageId() + " failed", e));
+                        if (transitionTo(StageExecution.State.FAILED)) {
+                            metrics.incrementTasksFailed();
+                        }
+                        return;
+                    }
                     metrics.addRowsProcessed(vsr.getRowCount());
 
                     if (isLast) {
@@ -128,6 +144,40 @@ final class ShardFragmentStageExecution extends AbstractStageExecution implement
         }, config.parentTask(), pending);
     }
 
+    /**
+     * Decodes a response into the given allocator, reporting an allocation over the allocator's limit as a
+     * {@link CircuitBreakingException}.
+     */
+    static <R> VectorSchemaRoot decode(ResponseCodec<R> codec, R response, BufferAllocator allocator) {
+        try {
+            return codec.decode(response, allocator);
+        } catch (OutOfMemoryException e) {
+            long limit = allocator.getLimit();
+            CircuitBreakingException breakingException = new CircuitBreakingException(
+                "[query] decoding a shard response would take the query over its memory limit of [" + limit + "] bytes",
+                allocator.getAllocatedMemory(),
+                limit,
+                CircuitBreaker.Durability.TRANSIENT
+            );
+            breakingException.addSuppressed(e);
+            throw breakingException;
+        }
+    }
+
+    /**
+     * Decodes a response and feeds it to the sink. The decoded batch is released if the sink does not take it.
+     */
+    static <R> VectorSchemaRoot decodeAndFeed(ResponseCodec<R> codec, R response, BufferAllocator allocator, ExchangeSink sink) {
+        VectorSchemaRoot vsr = decode(codec, response, allocator);
+        try {
+            sink.feed(vsr);
+        } catch (Exception e) {
+            vsr.close();
+            throw e;
+        }
+        return vsr;
+    }
+
     private void onShardTerminated() {
         if (inFlight.decrementAndGet() == 0) {
             Exception captured = getFailure();
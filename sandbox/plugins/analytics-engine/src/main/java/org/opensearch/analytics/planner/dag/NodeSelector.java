@@ -17,8 +17,7 @@ import java.util.List;
 /**
  * Selects the nodes a stage should execute on. Used by {@link ComposableTargetResolver}.
  *
- * <p>TODO: add ResourceAwareNodeSelector when cluster resource metrics are available.
- *
+ * @see ResourceAwareNodeSelector
  * @opensearch.internal
  */
 public interface NodeSelector {
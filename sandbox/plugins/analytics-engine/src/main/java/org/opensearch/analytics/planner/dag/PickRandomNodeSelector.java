@@ -17,8 +17,8 @@ import java.util.List;
 /**
  * Selects N random data nodes from the cluster for shuffle partition assignment.
  *
- * <p>TODO: implement ResourceAwareNodeSelector as an alternative that picks nodes
- * based on available memory and disk metrics.
+ * <p>See {@link ResourceAwareNodeSelector} for an alternative that picks the least
+ * loaded nodes.
  *
  * @opensearch.internal
  */
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.analytics.planner.dag;
+
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.Randomness;
+import org.opensearch.node.ResponseCollectorService;
+import org.opensearch.node.ResponseCollectorService.ComputedNodeStats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Selects the N least loaded data nodes for shuffle partition assignment, ranked by the
+ * adaptive replica selection statistics (queue size, response and service time EWMAs)
+ * that {@link ResponseCollectorService} collects from search responses.
+ *
+ * <p>Nodes without statistics are preferred so that the coordinator learns about them,
+ * ties are broken randomly so that concurrent queries do not all pick the same nodes.
+ *
+ * <p>Not used by the planner yet: only shuffle stages select nodes, and those do not exist. The child
+ * manifest is ignored, so data locality is not taken into account.
+ *
+ * @opensearch.internal
+ */
+public class ResourceAwareNodeSelector implements NodeSelector {
+
+    private final int count;
+    private final Supplier<Map<String, ComputedNodeStats>> nodeStatsSupplier;
+
+    public ResourceAwareNodeSelector(int count, ResponseCollectorService responseCollectorService) {
+        this(count, responseCollectorService::getAllNodeStatistics);
+    }
+
+    ResourceAwareNodeSelector(int count, Supplier<Map<String, ComputedNodeStats>> nodeStatsSupplier) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("node count must be positive but was [" + count + "]");
+        }
+        this.count = count;
+        this.nodeStatsSupplier = nodeStatsSupplier;
+    }
+
+    @Override
+    public List<DiscoveryNode> select(ClusterState clusterState, @Nullable Object childManifest) {
+        final List<DiscoveryNode> candidates = new ArrayList<>(clusterState.nodes().getDataNodes().values());
+        Randomness.shuffle(candidates);
+        final Map<String, ComputedNodeStats> nodeStats = nodeStatsSupplier.get();
+        // the sort is stable, so nodes with the same rank keep their random order
+        candidates.sort(Comparator.comparingDouble(node -> rank(nodeStats.get(node.getId()))));
+        return new ArrayList<>(candidates.subList(0, Math.min(count, candidates.size())));
+    }
+
+    private static double rank(@Nullable ComputedNodeStats stats) {
+        return stats == null ? Double.NEGATIVE_INFINITY : stats.rank(0);
+    }
+}
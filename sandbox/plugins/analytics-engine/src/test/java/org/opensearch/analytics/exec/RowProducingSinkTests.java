@@ -139,6 +139,17 @@ public class RowProducingSinkTests extends OpenSearchTestCase {
         sink.close();
     }
 
+    public void testRowCountResetOnClose() {
+        RowProducingSink sink = new RowProducingSink();
+
+        sink.feed(makeVsr(List.of("id"), new Object[][] { { "1" }, { "2" } }));
+        sink.feed(makeVsr(List.of("id"), new Object[][] { { "3" } }));
+        assertEquals(3, sink.getRowCount());
+
+        sink.close();
+        assertEquals(0, sink.getRowCount());
+    }
+
     // ─── Helpers ────────────────────────────────────────────────────────
 
     private VectorSchemaRoot makeVsr(List<String> fieldNames, Object[][] rows) {
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.analytics.exec.stage;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.OutOfMemoryException;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.opensearch.analytics.exec.action.FragmentExecutionResponse;
+import org.opensearch.analytics.spi.ExchangeSink;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.instanceOf;
+
+/**
+ * Tests for the decoding of shard responses in {@link ShardFragmentStageExecution}.
+ */
+public class ShardFragmentStageExecutionTests extends OpenSearchTestCase {
+
+    private static final long QUERY_MEMORY_LIMIT = 64 * 1024;
+
+    public void testDecodeWithinLimit() {
+        try (
+            BufferAllocator root = new RootAllocator();
+            BufferAllocator query = root.newChildAllocator("query", 0, QUERY_MEMORY_LIMIT)
+        ) {
+            VectorSchemaRoot vsr = ShardFragmentStageExecution.decode(RowResponseCodec.INSTANCE, response(10), query);
+            assertEquals(10, vsr.getRowCount());
+            assertTrue(query.getAllocatedMemory() > 0);
+            vsr.close();
+        }
+    }
+
+    public void testDecodeOverLimitBreaks() {
+        try (
+            BufferAllocator root = new RootAllocator();
+            BufferAllocator query = root.newChildAllocator("query", 0, QUERY_MEMORY_LIMIT)
+        ) {
+            CircuitBreakingException e = expectThrows(
+                CircuitBreakingException.class,
+                () -> ShardFragmentStageExecution.decode(RowResponseCodec.INSTANCE, response(100_000), query)
+            );
+            assertEquals(QUERY_MEMORY_LIMIT, e.getByteLimit());
+            assertEquals(CircuitBreaker.Durability.TRANSIENT, e.getDurability());
+            assertThat(e.getSuppressed(), arrayWithSize(1));
+            assertThat(e.getSuppressed()[0], instanceOf(OutOfMemoryException.class));
+            // the partially decoded batch is released
+            assertEquals(0, query.getAllocatedMemory());
+        }
+    }
+
+    public void testBatchRejectedBySinkIsReleased() {
+        try (
+            BufferAllocator root = new RootAllocator();
+            BufferAllocator query = root.newChildAllocator("query", 0, QUERY_MEMORY_LIMIT)
+        ) {
+            ExchangeSink sink = new ExchangeSink() {
+                @Override
+                public void feed(VectorSchemaRoot batch) {
+                    throw new IllegalStateException("sink is closed");
+                }
+
+                @Override
+                public void close() {}
+            };
+            expectThrows(
+                IllegalStateException.class,
+                () -> ShardFragmentStageExecution.decodeAndFeed(RowResponseCodec.INSTANCE, response(10), query, sink)
+            );
+            assertEquals(0, query.getAllocatedMemory());
+        }
+    }
+
+    private static FragmentExecutionResponse response(int rowCount) {
+        List<Object[]> rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(new Object[] { (long) i, "value-" + i });
+        }
+        return new FragmentExecutionResponse(List.of("id", "name"), rows);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.analytics.planner.dag;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.node.ResponseCollectorService.ComputedNodeStats;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class ResourceAwareNodeSelectorTests extends OpenSearchTestCase {
+
+    private static ClusterState clusterState(String... dataNodeIds) {
+        DiscoveryNodes.Builder nodes = DiscoveryNodes.builder();
+        for (String nodeId : dataNodeIds) {
+            nodes.add(
+                new DiscoveryNode(
+                    nodeId,
+                    buildNewFakeTransportAddress(),
+                    Collections.emptyMap(),
+                    Set.of(DiscoveryNodeRole.DATA_ROLE),
+                    Version.CURRENT
+                )
+            );
+        }
+        nodes.add(
+            new DiscoveryNode(
+                "cluster_manager",
+                buildNewFakeTransportAddress(),
+                Collections.emptyMap(),
+                Set.of(DiscoveryNodeRole.CLUSTER_MANAGER_ROLE),
+                Version.CURRENT
+            )
+        );
+        return ClusterState.builder(ClusterName.DEFAULT).nodes(nodes).build();
+    }
+
+    public void testPicksLeastLoadedDataNodes() {
+        Map<String, ComputedNodeStats> stats = Map.of(
+            "busy",
+            new ComputedNodeStats("busy", 1, 50, 5_000_000, 1_000_000),
+            "idle",
+            new ComputedNodeStats("idle", 1, 0, 1_000_000, 1_000_000),
+            "medium",
+            new ComputedNodeStats("medium", 1, 10, 2_000_000, 1_000_000)
+        );
+        ResourceAwareNodeSelector selector = new ResourceAwareNodeSelector(2, () -> stats);
+
+        List<DiscoveryNode> selected = selector.select(clusterState("busy", "idle", "medium"), null);
+
+        assertEquals(2, selected.size());
+        assertEquals("idle", selected.get(0).getId());
+        assertEquals("medium", selected.get(1).getId());
+    }
+
+    public void testPrefersNodesWithoutStats() {
+        Map<String, ComputedNodeStats> stats = Map.of("known", new ComputedNodeStats("known", 1, 0, 1_000_000, 1_000_000));
+        ResourceAwareNodeSelector selector = new ResourceAwareNodeSelector(1, () -> stats);
+
+        List<DiscoveryNode> selected = selector.select(clusterState("known", "unknown"), null);
+
+        assertEquals(1, selected.size());
+        assertEquals("unknown", selected.get(0).getId());
+    }
+
+    public void testSelectsAtMostAvailableDataNodes() {
+        ResourceAwareNodeSelector selector = new ResourceAwareNodeSelector(5, Collections::emptyMap);
+
+        List<DiscoveryNode> selected = selector.select(clusterState("a", "b"), null);
+
+        assertEquals(2, selected.size());
+        assertTrue(selected.stream().allMatch(DiscoveryNode::isDataNode));
+    }
+
+    public void testRejectsNonPositiveCount() {
+        expectThrows(IllegalArgumentException.class, () -> new ResourceAwareNodeSelector(0, Collections::emptyMap));
+    }
+}
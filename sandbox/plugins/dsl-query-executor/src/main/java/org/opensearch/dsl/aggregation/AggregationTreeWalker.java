@@ -8,6 +8,7 @@
 
 package org.opensearch.dsl.aggregation;
 
+import org.apache.calcite.rel.core.AggregateCall;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.opensearch.dsl.aggregation.bucket.BucketTranslator;
@@ -56,7 +57,7 @@ public class AggregationTreeWalker {
     public List<AggregationMetadata> walk(Collection<AggregationBuilder> aggs, RelDataType rowType, RelDataTypeFactory typeFactory)
         throws ConversionException {
         Map<String, AggregationMetadataBuilder> granularities = new LinkedHashMap<>();
-        walkRecursive(aggs, new ArrayList<>(), granularities, rowType);
+        walkRecursive(aggs, new ArrayList<>(), granularities, rowType, typeFactory);
 
         List<AggregationMetadata> result = new ArrayList<>();
         for (AggregationMetadataBuilder builder : granularities.values()) {
@@ -72,7 +73,8 @@ public class AggregationTreeWalker {
         Collection<AggregationBuilder> aggs,
         List<GroupingInfo> currentGroupings,
         Map<String, AggregationMetadataBuilder> granularities,
-        RelDataType rowType
+        RelDataType rowType,
+        RelDataTypeFactory typeFactory
     ) throws ConversionException {
         for (AggregationBuilder aggBuilder : aggs) {
             AggregationTranslator<?> type = registry.get(aggBuilder.getClass());
@@ -80,9 +82,23 @@ public class AggregationTreeWalker {
             if (type == null) {
                 throw new ConversionException("No translator registered for aggregation type: " + aggBuilder.getClass().getSimpleName());
             } else if (type instanceof BucketTranslator) {
-                handleBucket((BucketTranslator<AggregationBuilder>) type, aggBuilder, currentGroupings, granularities, rowType);
+                handleBucket(
+                    (BucketTranslator<AggregationBuilder>) type,
+                    aggBuilder,
+                    currentGroupings,
+                    granularities,
+                    rowType,
+                    typeFactory
+                );
             } else if (type instanceof MetricTranslator) {
-                handleMetric((MetricTranslator<AggregationBuilder>) type, aggBuilder, currentGroupings, granularities, rowType);
+                handleMetric(
+                    (MetricTranslator<AggregationBuilder>) type,
+                    aggBuilder,
+                    currentGroupings,
+                    granularities,
+                    rowType,
+                    typeFactory
+                );
             } else {
                 throw new ConversionException("Unsupported aggregation translator kind: " + type.getClass().getSimpleName());
             }
@@ -94,7 +110,8 @@ public class AggregationTreeWalker {
         AggregationBuilder aggBuilder,
         List<GroupingInfo> currentGroupings,
         Map<String, AggregationMetadataBuilder> granularities,
-        RelDataType rowType
+        RelDataType rowType,
+        RelDataTypeFactory typeFactory
     ) throws ConversionException {
         GroupingInfo grouping = translator.getGrouping(aggBuilder);
 
@@ -108,7 +125,7 @@ public class AggregationTreeWalker {
         // Recurse into sub-aggregations
         Collection<AggregationBuilder> subAggs = translator.getSubAggregations(aggBuilder);
         if (subAggs != null && !subAggs.isEmpty()) {
-            walkRecursive(subAggs, accumulatedGroupings, granularities, rowType);
+            walkRecursive(subAggs, accumulatedGroupings, granularities, rowType, typeFactory);
         }
     }
 
@@ -117,10 +134,12 @@ public class AggregationTreeWalker {
         AggregationBuilder aggBuilder,
         List<GroupingInfo> currentGroupings,
         Map<String, AggregationMetadataBuilder> granularities,
-        RelDataType rowType
+        RelDataType rowType,
+        RelDataTypeFactory typeFactory
     ) throws ConversionException {
         AggregationMetadataBuilder builder = getOrCreateBuilder(currentGroupings, granularities);
-        builder.addAggregateCall(translator.toAggregateCall(aggBuilder, rowType), translator.getAggregateFieldName(aggBuilder));
+        AggregateCall aggregateCall = translator.toAggregateCall(aggBuilder, rowType, typeFactory);
+        builder.addAggregateCall(aggregateCall, translator.getAggregateFieldName(aggBuilder));
     }
 
     private AggregationMetadataBuilder getOrCreateBuilder(
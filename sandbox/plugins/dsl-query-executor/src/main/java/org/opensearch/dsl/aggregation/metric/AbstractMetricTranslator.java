@@ -11,6 +11,7 @@ package org.opensearch.dsl.aggregation.metric;
 import org.apache.calcite.rel.RelCollations;
 import org.apache.calcite.rel.core.AggregateCall;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rel.type.RelDataTypeField;
 import org.apache.calcite.sql.SqlAggFunction;
 import org.opensearch.dsl.converter.ConversionException;
@@ -22,7 +23,7 @@ import java.util.Collections;
 /**
  * Base class for metric translators. Provides the common {@link #toAggregateCall}
  * logic — subclasses supply the SQL aggregate function, field name, and optionally
- * override the return type.
+ * override the return type and the distinct/approximate flags.
  */
 public abstract class AbstractMetricTranslator<T extends AggregationBuilder> implements MetricTranslator<T> {
 
@@ -40,24 +41,50 @@ public abstract class AbstractMetricTranslator<T extends AggregationBuilder> imp
      */
     protected abstract String getFieldName(T agg);
 
+    /**
+     * Returns whether the aggregate applies to distinct values only. Defaults to false.
+     */
+    protected boolean isDistinct() {
+        return false;
+    }
+
+    /**
+     * Returns whether the aggregate may be computed approximately. Defaults to false.
+     */
+    protected boolean isApproximate() {
+        return false;
+    }
+
+    /**
+     * Returns the aggregate return type. Defaults to the input field type.
+     *
+     * @param fieldType the type of the aggregated field
+     * @param typeFactory the type factory for creating a return type that differs from the field type
+     * @return the return type
+     */
+    protected RelDataType getReturnType(RelDataType fieldType, RelDataTypeFactory typeFactory) {
+        return fieldType;
+    }
+
     @Override
-    public AggregateCall toAggregateCall(T agg, RelDataType rowType) throws ConversionException {
+    public AggregateCall toAggregateCall(T agg, RelDataType rowType, RelDataTypeFactory typeFactory) throws ConversionException {
         String fieldName = getFieldName(agg);
         RelDataTypeField field = rowType.getField(fieldName, false, false);
         if (field == null) {
             throw new ConversionException("Aggregation field '" + fieldName + "' not found in schema");
         }
 
-        // Calcite enforces the return type to be same as input type; eg: AVG int→double coercion happens in response layer.
+        // The return type is the field type unless the translator overrides getReturnType, eg: value_count and cardinality
+        // return the non-nullable BIGINT of COUNT whatever the field type.
         return AggregateCall.create(
             getAggFunction(),
-            false,
-            false,
+            isDistinct(),
+            isApproximate(),
             false,
             Collections.singletonList(field.getIndex()),
             -1,
             RelCollations.EMPTY,
-            field.getType(),
+            getReturnType(field.getType(), typeFactory),
             agg.getName()
         );
     }
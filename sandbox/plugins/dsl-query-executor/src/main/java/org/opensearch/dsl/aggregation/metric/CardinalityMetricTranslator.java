@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dsl.aggregation.metric;
+
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.opensearch.search.aggregations.metrics.CardinalityAggregationBuilder;
+
+/**
+ * Translates CARDINALITY metric aggregation to an approximate Calcite {@code COUNT(DISTINCT field)},
+ * which is how Calcite itself represents {@code APPROX_COUNT_DISTINCT}. The precision threshold has no
+ * equivalent and is left to the backend.
+ */
+public class CardinalityMetricTranslator extends AbstractMetricTranslator<CardinalityAggregationBuilder> {
+
+    /** Creates a CARDINALITY metric translator. */
+    public CardinalityMetricTranslator() {}
+
+    @Override
+    public Class<CardinalityAggregationBuilder> getAggregationType() {
+        return CardinalityAggregationBuilder.class;
+    }
+
+    @Override
+    protected SqlAggFunction getAggFunction() {
+        return SqlStdOperatorTable.COUNT;
+    }
+
+    @Override
+    protected String getFieldName(CardinalityAggregationBuilder agg) {
+        return agg.field();
+    }
+
+    @Override
+    protected boolean isDistinct() {
+        return true;
+    }
+
+    @Override
+    protected boolean isApproximate() {
+        return true;
+    }
+
+    @Override
+    protected RelDataType getReturnType(RelDataType fieldType, RelDataTypeFactory typeFactory) {
+        return ValueCountMetricTranslator.countType(typeFactory);
+    }
+}
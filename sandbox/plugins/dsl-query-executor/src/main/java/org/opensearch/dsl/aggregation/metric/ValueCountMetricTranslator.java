@@ -0,0 +1,48 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dsl.aggregation.metric;
+
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.opensearch.search.aggregations.metrics.ValueCountAggregationBuilder;
+
+/** Translates VALUE_COUNT metric aggregation to Calcite {@code COUNT(field)}. */
+public class ValueCountMetricTranslator extends AbstractMetricTranslator<ValueCountAggregationBuilder> {
+
+    /** Creates a VALUE_COUNT metric translator. */
+    public ValueCountMetricTranslator() {}
+
+    @Override
+    public Class<ValueCountAggregationBuilder> getAggregationType() {
+        return ValueCountAggregationBuilder.class;
+    }
+
+    @Override
+    protected SqlAggFunction getAggFunction() {
+        return SqlStdOperatorTable.COUNT;
+    }
+
+    @Override
+    protected String getFieldName(ValueCountAggregationBuilder agg) {
+        return agg.field();
+    }
+
+    @Override
+    protected RelDataType getReturnType(RelDataType fieldType, RelDataTypeFactory typeFactory) {
+        return countType(typeFactory);
+    }
+
+    /** Returns the BIGINT type of a COUNT aggregate, regardless of the counted field. */
+    static RelDataType countType(RelDataTypeFactory typeFactory) {
+        return typeFactory.createSqlType(SqlTypeName.BIGINT);
+    }
+}
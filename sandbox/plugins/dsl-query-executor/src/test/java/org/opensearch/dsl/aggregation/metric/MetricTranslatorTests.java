@@ -9,23 +9,32 @@
 package org.opensearch.dsl.aggregation.metric;
 
 import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeName;
 import org.opensearch.dsl.TestUtils;
 import org.opensearch.dsl.converter.ConversionContext;
 import org.opensearch.dsl.converter.ConversionException;
 import org.opensearch.search.aggregations.metrics.AvgAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.CardinalityAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.MinAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.ValueCountAggregationBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 
 public class MetricTranslatorTests extends OpenSearchTestCase {
 
     private final ConversionContext ctx = TestUtils.createContext();
+    private final RelDataTypeFactory typeFactory = ctx.getCluster().getTypeFactory();
 
     public void testAvgTranslator() throws ConversionException {
         AvgMetricTranslator translator = new AvgMetricTranslator();
-        AggregateCall call = translator.toAggregateCall(new AvgAggregationBuilder("avg_price").field("price"), ctx.getRowType());
+        AggregateCall call = translator.toAggregateCall(
+            new AvgAggregationBuilder("avg_price").field("price"),
+            ctx.getRowType(),
+            typeFactory
+        );
 
         assertEquals(SqlKind.AVG, call.getAggregation().getKind());
         assertEquals("avg_price", call.getName());
@@ -35,7 +44,7 @@ public class MetricTranslatorTests extends OpenSearchTestCase {
 
     public void testSumTranslator() throws ConversionException {
         SumMetricTranslator translator = new SumMetricTranslator();
-        AggregateCall call = translator.toAggregateCall(new SumAggregationBuilder("total").field("price"), ctx.getRowType());
+        AggregateCall call = translator.toAggregateCall(new SumAggregationBuilder("total").field("price"), ctx.getRowType(), typeFactory);
 
         assertEquals(SqlKind.SUM, call.getAggregation().getKind());
         assertEquals("total", call.getName());
@@ -43,7 +52,11 @@ public class MetricTranslatorTests extends OpenSearchTestCase {
 
     public void testMinTranslator() throws ConversionException {
         MinMetricTranslator translator = new MinMetricTranslator();
-        AggregateCall call = translator.toAggregateCall(new MinAggregationBuilder("min_price").field("price"), ctx.getRowType());
+        AggregateCall call = translator.toAggregateCall(
+            new MinAggregationBuilder("min_price").field("price"),
+            ctx.getRowType(),
+            typeFactory
+        );
 
         assertEquals(SqlKind.MIN, call.getAggregation().getKind());
         assertEquals("min_price", call.getName());
@@ -51,18 +64,53 @@ public class MetricTranslatorTests extends OpenSearchTestCase {
 
     public void testMaxTranslator() throws ConversionException {
         MaxMetricTranslator translator = new MaxMetricTranslator();
-        AggregateCall call = translator.toAggregateCall(new MaxAggregationBuilder("max_price").field("price"), ctx.getRowType());
+        AggregateCall call = translator.toAggregateCall(
+            new MaxAggregationBuilder("max_price").field("price"),
+            ctx.getRowType(),
+            typeFactory
+        );
 
         assertEquals(SqlKind.MAX, call.getAggregation().getKind());
         assertEquals("max_price", call.getName());
     }
 
+    public void testValueCountTranslator() throws ConversionException {
+        ValueCountMetricTranslator translator = new ValueCountMetricTranslator();
+        AggregateCall call = translator.toAggregateCall(
+            new ValueCountAggregationBuilder("names").field("name"),
+            ctx.getRowType(),
+            typeFactory
+        );
+
+        assertEquals(SqlKind.COUNT, call.getAggregation().getKind());
+        assertEquals("names", call.getName());
+        assertEquals(0, call.getArgList().get(0).intValue()); // name is index 0
+        assertFalse(call.isDistinct());
+        assertEquals(SqlTypeName.BIGINT, call.getType().getSqlTypeName());
+    }
+
+    public void testCardinalityTranslator() throws ConversionException {
+        CardinalityMetricTranslator translator = new CardinalityMetricTranslator();
+        AggregateCall call = translator.toAggregateCall(
+            new CardinalityAggregationBuilder("brands").field("brand"),
+            ctx.getRowType(),
+            typeFactory
+        );
+
+        assertEquals(SqlKind.COUNT, call.getAggregation().getKind());
+        assertEquals("brands", call.getName());
+        assertEquals(2, call.getArgList().get(0).intValue()); // brand is index 2
+        assertTrue(call.isDistinct());
+        assertTrue(call.isApproximate());
+        assertEquals(SqlTypeName.BIGINT, call.getType().getSqlTypeName());
+    }
+
     public void testThrowsForUnknownField() {
         AvgMetricTranslator translator = new AvgMetricTranslator();
 
         expectThrows(
             ConversionException.class,
-            () -> translator.toAggregateCall(new AvgAggregationBuilder("bad").field("nonexistent"), ctx.getRowType())
+            () -> translator.toAggregateCall(new AvgAggregationBuilder("bad").field("nonexistent"), ctx.getRowType(), typeFactory)
         );
     }
 
@@ -18,6 +18,8 @@ import org.opensearch.dsl.aggregation.AggregationTreeWalker;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.AvgAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.CardinalityAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.ValueCountAggregationBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.util.List;
@@ -60,6 +62,24 @@ public class AggregateConverterTests extends OpenSearchTestCase {
         assertEquals(2, agg.getAggCallList().size()); // avg_price + implicit _count
     }
 
+    public void testCountMetricsWithoutGroupByStayNonNullable() throws ConversionException {
+        List<AggregationMetadata> metadataList = walker.walk(
+            List.<AggregationBuilder>of(
+                new ValueCountAggregationBuilder("names").field("name"),
+                new CardinalityAggregationBuilder("brands").field("brand")
+            ),
+            scan.getRowType(),
+            scan.getCluster().getTypeFactory()
+        );
+
+        LogicalAggregate agg = (LogicalAggregate) converter.convert(scan, metadataList.get(0));
+
+        assertEquals(2, agg.getAggCallList().size());
+        assertFalse(agg.getAggCallList().get(0).getType().isNullable());
+        assertFalse(agg.getAggCallList().get(1).getType().isNullable());
+        assertTrue(agg.getAggCallList().get(1).isDistinct());
+    }
+
     public void testInputIsScan() throws ConversionException {
         List<AggregationMetadata> metadataList = walker.walk(
             List.<AggregationBuilder>of(new AvgAggregationBuilder("avg_price").field("price")),
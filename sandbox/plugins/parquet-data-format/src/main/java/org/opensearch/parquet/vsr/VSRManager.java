@@ -61,6 +61,8 @@ public class VSRManager implements AutoCloseable {
     private final ThreadPool threadPool;
     private final String vsrRotationThread;
     private volatile Future<?> pendingWrite;
+    // the first failed native write, after which the file is missing rows and no document or flush can succeed
+    private volatile IOException writeFailure;
     private NativeParquetWriter writer;
     private final int ROTATION_TIMEOUT = 120;
 
@@ -112,6 +114,7 @@ public class VSRManager implements AutoCloseable {
      * @param doc the document input containing field-value pairs
      */
     public void addDocument(ParquetDocumentInput doc) throws IOException {
+        ensureNoWriteFailure();
         maybeRotateActiveVSR();
         ManagedVSR activeVSR = managedVSR.get();
         for (FieldValuePair pair : doc.getFinalInput()) {
@@ -134,9 +137,17 @@ public class VSRManager implements AutoCloseable {
      * Checks if VSR rotation is needed before accepting the next document.
      * If the active VSR has reached the row threshold and the frozen slot is empty,
      * freezes the active VSR, submits it for background native write, and creates
-     * a new active VSR. If the frozen slot is occupied, rotation is skipped.
+     * a new active VSR. If the frozen slot is occupied, rotation is skipped until the active
+     * VSR reaches twice the threshold, at which point this waits for the background write so
+     * that a slow native writer applies back-pressure instead of growing the active VSR without
+     * bound. A failed background write is rethrown here rather than only at flush, and by every later call.
      */
     public void maybeRotateActiveVSR() throws IOException {
+        ensureNoWriteFailure();
+        Future<?> write = pendingWrite;
+        if (write != null && (write.isDone() || vsrPool.mustAwaitFrozenVSR())) {
+            awaitPendingWrite(ROTATION_TIMEOUT, false);
+        }
         boolean rotated = vsrPool.maybeRotateActiveVSR();
         if (rotated == false) {
             return;
@@ -150,9 +161,11 @@ public class VSRManager implements AutoCloseable {
                     writer.write(export.getArrayAddress(), export.getSchemaAddress());
                 } catch (IOException e) {
                     throw new RuntimeException(e);
+                } finally {
+                    // free the frozen slot even if the write failed, the failure surfaces through pendingWrite
+                    vsrPool.completeVSR(frozenVSR);
+                    vsrPool.unsetFrozenVSR();
                 }
-                vsrPool.completeVSR(frozenVSR);
-                vsrPool.unsetFrozenVSR();
             };
             pendingWrite = threadPool.executor(vsrRotationThread).submit(writeTask);
         }
@@ -170,6 +183,7 @@ public class VSRManager implements AutoCloseable {
      * @return metadata about the written Parquet file, or null if no data to flush
      */
     public ParquetFileMetadata flush() throws IOException {
+        ensureNoWriteFailure();
         awaitPendingWrite(ROTATION_TIMEOUT, false);
         ManagedVSR currentVSR = managedVSR.get();
         if (currentVSR != null && currentVSR.getRowCount() > 0) {
@@ -177,6 +191,9 @@ public class VSRManager implements AutoCloseable {
             currentVSR.moveToFrozen();
             try (ArrowExport export = currentVSR.exportToArrow()) {
                 writer.write(export.getArrayAddress(), export.getSchemaAddress());
+            } catch (IOException e) {
+                writeFailure = e;
+                throw e;
             }
             vsrPool.completeVSR(currentVSR);
             managedVSR.set(null);
@@ -190,6 +207,7 @@ public class VSRManager implements AutoCloseable {
      * Syncs the Parquet file to disk. Must be called after {@link #flush()}.
      */
     public void sync() throws IOException {
+        ensureNoWriteFailure();
         awaitPendingWrite(ROTATION_TIMEOUT, false);
         writer.sync();
     }
@@ -221,11 +239,23 @@ public class VSRManager implements AutoCloseable {
         }
     }
 
+    /**
+     * Fails if an earlier write failed, since the rows of its batch are missing from the file and the row IDs of the
+     * documents added since then no longer match their position in it.
+     */
+    private void ensureNoWriteFailure() throws IOException {
+        IOException failure = writeFailure;
+        if (failure != null) {
+            throw new IOException("Parquet writer for " + fileName + " failed on an earlier batch", failure);
+        }
+    }
+
     /**
      * Waits for any in-flight background write to complete with an optional timeout.
      *
      * @param timeoutSeconds timeout in seconds (0 means wait indefinitely)
      * @param ignoreTimeout if true, log a warning on timeout instead of throwing
+     * @throws IOException if the write failed or timed out, in which case every later operation fails as well
      */
     private void awaitPendingWrite(long timeoutSeconds, boolean ignoreTimeout) throws IOException {
         if (pendingWrite == null) {
@@ -241,10 +271,15 @@ public class VSRManager implements AutoCloseable {
             if (ignoreTimeout) {
                 logger.warn("Timed out waiting for background VSR write for {}", fileName);
             } else {
-                throw new IOException("Timed out waiting for background VSR write for " + fileName, e);
+                // the batch may or may not end up in the file, so nothing written afterwards can be trusted
+                IOException failure = new IOException("Timed out waiting for background VSR write for " + fileName, e);
+                writeFailure = failure;
+                throw failure;
             }
         } catch (Exception e) {
-            throw new IOException("Background VSR write failed for " + fileName, e.getCause());
+            IOException failure = new IOException("Background VSR write failed for " + fileName, e.getCause());
+            writeFailure = failure;
+            throw failure;
         } finally {
             pendingWrite = null;
         }
@@ -254,4 +289,9 @@ public class VSRManager implements AutoCloseable {
     ManagedVSR getActiveManagedVSR() {
         return managedVSR.get();
     }
+
+    // Visible for testing only
+    NativeParquetWriter getWriter() {
+        return writer;
+    }
 }
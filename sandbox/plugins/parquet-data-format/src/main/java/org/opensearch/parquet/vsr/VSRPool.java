@@ -24,7 +24,9 @@ import java.util.concurrent.atomic.AtomicReference;
  * <p>Handles row-count-based rotation: when the active VSR reaches the configured
  * {@code maxRowsPerVSR} threshold, it is frozen and a new active VSR is created.
  * If the frozen slot is still occupied (previous write in progress), rotation is
- * skipped and the active VSR continues accepting writes beyond the threshold.
+ * skipped and the active VSR continues accepting writes beyond the threshold, up to
+ * {@link #mustAwaitFrozenVSR() twice the threshold} after which the caller is expected
+ * to wait for the frozen VSR to be written.
  *
  * <p>Each new VSR receives its own child allocator from the shared {@link ArrowBufferPool},
  * <p>This class is NOT Thread-Safe. External synchronization is required
@@ -105,6 +107,18 @@ public class VSRPool implements AutoCloseable {
         return true;
     }
 
+    /**
+     * Returns whether the active VSR has grown to twice the row threshold while the frozen
+     * slot is still occupied, i.e. the background write does not keep up with ingestion and
+     * the caller should wait for it before accepting more documents.
+     *
+     * @return true if the caller should wait for the frozen VSR to be written
+     */
+    public boolean mustAwaitFrozenVSR() {
+        ManagedVSR current = activeVSR.get();
+        return current != null && frozenVSR.get() != null && current.getRowCount() >= 2L * maxRowsPerVSR;
+    }
+
     /**
      * Clears the frozen VSR slot after it has been closed.
      *
@@ -24,6 +24,7 @@ import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 
+import java.io.IOException;
 import java.util.List;
 
 public class VSRManagerTests extends OpenSearchTestCase {
@@ -204,6 +205,36 @@ public class VSRManagerTests extends OpenSearchTestCase {
         manager.close();
     }
 
+    public void testRotationAppliesBackPressureAtTwiceTheThreshold() throws Exception {
+        String filePath = createTempDir().resolve("back-pressure.parquet").toString();
+        VSRManager manager = new VSRManager(filePath, schema, bufferPool, 100, threadPool);
+
+        ManagedVSR first = manager.getActiveManagedVSR();
+        IntVector vec1 = (IntVector) first.getVector("val");
+        for (int i = 0; i < 100; i++) {
+            vec1.setSafe(i, i);
+        }
+        first.setRowCount(100);
+        manager.maybeRotateActiveVSR();
+
+        // Without waiting, an active VSR at twice the threshold must still rotate
+        ManagedVSR second = manager.getActiveManagedVSR();
+        IntVector vec2 = (IntVector) second.getVector("val");
+        for (int i = 0; i < 200; i++) {
+            vec2.setSafe(i, i + 100);
+        }
+        second.setRowCount(200);
+        manager.maybeRotateActiveVSR();
+
+        ManagedVSR third = manager.getActiveManagedVSR();
+        assertNotSame(second, third);
+        assertEquals(VSRState.ACTIVE, third.getState());
+
+        ParquetFileMetadata metadata = manager.flush();
+        assertEquals(300, metadata.numRows());
+        manager.close();
+    }
+
     public void testRotationWritesHappenOnBackgroundThread() throws Exception {
         String filePath = createTempDir().resolve("bg-thread.parquet").toString();
         VSRManager manager = new VSRManager(filePath, schema, bufferPool, 100, threadPool);
@@ -274,4 +305,33 @@ public class VSRManagerTests extends OpenSearchTestCase {
         // Close should not throw — it should await the background write gracefully
         manager.close();
     }
+
+    public void testFailedBackgroundWriteFailsEveryLaterOperation() throws Exception {
+        String filePath = createTempDir().resolve("failed-write.parquet").toString();
+        VSRManager manager = new VSRManager(filePath, schema, bufferPool, 100, threadPool, false);
+
+        ManagedVSR first = manager.getActiveManagedVSR();
+        IntVector vec = (IntVector) first.getVector("val");
+        for (int i = 0; i < 100; i++) {
+            vec.setSafe(i, i);
+        }
+        first.setRowCount(100);
+        // a finalized native writer rejects the write of the frozen batch
+        manager.getWriter().flush();
+        manager.maybeRotateActiveVSR();
+
+        NumberFieldMapper.NumberFieldType valField = new NumberFieldMapper.NumberFieldType("val", NumberFieldMapper.NumberType.INTEGER);
+        ParquetDocumentInput doc = new ParquetDocumentInput();
+        doc.addField(valField, 42);
+        IOException e = expectThrows(IOException.class, () -> manager.addDocument(doc));
+        assertEquals("Background VSR write failed for " + filePath, e.getMessage());
+
+        // the rows of the frozen batch are missing, so the failure must not be swallowed by the first report
+        e = expectThrows(IOException.class, () -> manager.addDocument(doc));
+        assertEquals("Parquet writer for " + filePath + " failed on an earlier batch", e.getMessage());
+        e = expectThrows(IOException.class, manager::flush);
+        assertEquals("Background VSR write failed for " + filePath, e.getCause().getMessage());
+        expectThrows(IOException.class, manager::sync);
+        manager.close();
+    }
 }
@@ -114,4 +114,22 @@ public class VSRPoolTests extends OpenSearchTestCase {
         pool.unsetFrozenVSR();
         pool.close();
     }
+
+    public void testMustAwaitFrozenVSRAtTwiceTheThreshold() throws IOException {
+        VSRPool pool = new VSRPool("pool-8", schema, bufferPool, 100);
+        pool.getActiveVSR().setRowCount(199);
+        assertFalse(pool.mustAwaitFrozenVSR());
+
+        pool.getActiveVSR().setRowCount(100);
+        pool.maybeRotateActiveVSR();
+        pool.getActiveVSR().setRowCount(199);
+        assertFalse(pool.mustAwaitFrozenVSR());
+        pool.getActiveVSR().setRowCount(200);
+        assertTrue(pool.mustAwaitFrozenVSR());
+
+        pool.completeVSR(pool.getFrozenVSR());
+        pool.unsetFrozenVSR();
+        assertFalse(pool.mustAwaitFrozenVSR());
+        pool.close();
+    }
 }
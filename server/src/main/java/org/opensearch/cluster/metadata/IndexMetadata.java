@@ -1800,6 +1800,15 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
     }
 
     public static IndexMetadata readFrom(StreamInput in) throws IOException {
+        return readFrom(in, Function.identity());
+    }
+
+    /**
+     * Reads an {@link IndexMetadata}, passing each mapping through {@code mappingDeduplicator} so that callers reading
+     * many indices can share identical mappings between them.
+     */
+    public static IndexMetadata readFrom(StreamInput in, Function<MappingMetadata, MappingMetadata> mappingDeduplicator)
+        throws IOException {
         Builder builder = new Builder(in.readString());
         builder.version(in.readLong());
         builder.mappingVersion(in.readVLong());
@@ -1814,7 +1823,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         }
         int mappingsSize = in.readVInt();
         for (int i = 0; i < mappingsSize; i++) {
-            MappingMetadata mappingMd = new MappingMetadata(in);
+            MappingMetadata mappingMd = mappingDeduplicator.apply(new MappingMetadata(in));
             builder.putMapping(mappingMd);
         }
         int aliasesSize = in.readVInt();
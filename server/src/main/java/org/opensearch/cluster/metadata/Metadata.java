@@ -1147,8 +1147,10 @@ public class Metadata implements Iterable<IndexMetadata>, Diffable<Metadata>, To
         builder.persistentSettings(readSettingsFromStream(in));
         builder.hashesOfConsistentSettings(DiffableStringMap.readFrom(in));
         int size = in.readVInt();
+        // indices created from the same template usually have identical mappings, keep a single copy of each of them
+        final Map<MappingMetadata, MappingMetadata> mappings = new HashMap<>();
         for (int i = 0; i < size; i++) {
-            builder.put(IndexMetadata.readFrom(in), false);
+            builder.put(IndexMetadata.readFrom(in, mapping -> mappings.computeIfAbsent(mapping, Function.identity())), false);
         }
         size = in.readVInt();
         for (int i = 0; i < size; i++) {
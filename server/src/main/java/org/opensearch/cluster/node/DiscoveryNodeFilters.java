@@ -130,22 +130,27 @@ public class DiscoveryNodeFilters {
 
     /**
      * Removes any filters that should not be considered, returning a new
-     * {@link DiscoveryNodeFilters} object. If the filtered object has no
-     * filters after trimming, {@code null} is returned.
+     * {@link DiscoveryNodeFilters} object, or the original one if there is
+     * nothing to remove. If the filtered object has no filters after
+     * trimming, {@code null} is returned.
      */
     @Nullable
     public static DiscoveryNodeFilters trimTier(@Nullable DiscoveryNodeFilters original) {
         if (original == null) {
             return null;
         }
+        // allocation deciders trim the filters of every index for every shard and node, avoid copying them when possible
+        boolean needsTrim = original.filters.isEmpty();
+        for (String attr : original.filters.keySet()) {
+            needsTrim |= shouldTrim(attr);
+        }
+        if (needsTrim == false) {
+            return original;
+        }
 
         Map<String, String[]> newFilters = original.filters.entrySet()
             .stream()
-            // Remove all entries that start with "_tier", as these will be handled elsewhere
-            .filter(entry -> {
-                String attr = entry.getKey();
-                return attr != null && attr.startsWith("_tier") == false;
-            })
+            .filter(entry -> shouldTrim(entry.getKey()) == false)
             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
 
         if (newFilters.size() == 0) {
@@ -155,6 +160,11 @@ public class DiscoveryNodeFilters {
         }
     }
 
+    private static boolean shouldTrim(String attr) {
+        // Remove all entries that start with "_tier", as these will be handled elsewhere
+        return attr == null || attr.startsWith("_tier");
+    }
+
     public boolean match(DiscoveryNode node) {
         for (Map.Entry<String, String[]> entry : filters.entrySet()) {
             String attr = entry.getKey();
@@ -844,6 +844,20 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             return function.weightWithRebalanceConstraints(balancer, node, index);
         }
 
+        /**
+         * Sorts a range in which only a few nodes changed their weight since the last sort, e.g. the source and target
+         * node of a relocation. An insertion sort only moves these nodes, so this is linear in the size of the range
+         * as long as the nodes don't move far, while a full sort is not. Unlike the full sort, nodes with equal weights
+         * keep their relative order, so ties between nodes may be broken differently than after {@link #sort}.
+         */
+        public void resort(int from, int to) {
+            for (int i = from + 1; i < to; i++) {
+                for (int j = i; j > from && compare(j - 1, j) > 0; j--) {
+                    swap(j - 1, j);
+                }
+            }
+        }
+
         @Override
         protected void swap(int i, int j) {
             final ModelNode tmpNode = modelNodes[i];
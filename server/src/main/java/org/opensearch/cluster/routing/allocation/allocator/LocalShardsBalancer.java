@@ -450,13 +450,12 @@ public class LocalShardsBalancer extends ShardsBalancer {
                         );
                     } else if (tryRelocateShard(minNode, maxNode, index)) {
                         /*
-                         * TODO we could be a bit smarter here, we don't need to fully sort necessarily
-                         * we could just find the place to insert linearly but the win might be minor
-                         * compared to the added complexity
+                         * only the weights of the two nodes changed, so we move them to their place instead of sorting
+                         * all relevant nodes again for every relocation
                          */
                         weights[lowIdx] = sorter.weight(modelNodes[lowIdx]);
                         weights[highIdx] = sorter.weight(modelNodes[highIdx]);
-                        sorter.sort(0, relevantNodes);
+                        sorter.resort(0, relevantNodes);
                         lowIdx = 0;
                         highIdx = relevantNodes - 1;
                         continue;
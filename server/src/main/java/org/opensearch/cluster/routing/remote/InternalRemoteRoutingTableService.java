@@ -50,7 +50,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -228,12 +227,13 @@ public class InternalRemoteRoutingTableService extends AbstractLifecycleComponen
         List<String> updatedIndicesRouting,
         List<ClusterMetadataManifest.UploadedIndexMetadata> allIndicesRouting
     ) {
+        // look up by name instead of scanning all indices for each updated one, which is quadratic on large clusters
+        final Map<String, ClusterMetadataManifest.UploadedIndexMetadata> indicesRoutingByName = allIndicesRouting.stream()
+            .collect(Collectors.toMap(ClusterMetadataManifest.UploadedIndexMetadata::getIndexName, Function.identity(), (a, b) -> a));
         return updatedIndicesRouting.stream().map(idx -> {
-            Optional<ClusterMetadataManifest.UploadedIndexMetadata> uploadedIndexMetadataOptional = allIndicesRouting.stream()
-                .filter(idx2 -> idx2.getIndexName().equals(idx))
-                .findFirst();
-            assert uploadedIndexMetadataOptional.isPresent() == true;
-            return uploadedIndexMetadataOptional.get();
+            ClusterMetadataManifest.UploadedIndexMetadata uploadedIndexMetadata = indicesRoutingByName.get(idx);
+            assert uploadedIndexMetadata != null;
+            return uploadedIndexMetadata;
         }).collect(Collectors.toList());
     }
 
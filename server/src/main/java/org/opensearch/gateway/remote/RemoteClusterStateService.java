@@ -1651,13 +1651,14 @@ public class RemoteClusterStateService implements Closeable {
             ClusterStateDiffManifest diff = manifest.getDiffManifest();
             boolean includeEphemeral = true;
 
+            // look up by name instead of scanning all indices for each updated one, which is quadratic on large clusters
+            final Map<String, UploadedIndexMetadata> uploadedIndicesByName = manifest.getIndices()
+                .stream()
+                .collect(Collectors.toMap(UploadedIndexMetadata::getIndexName, Function.identity(), (a, b) -> a));
             List<UploadedIndexMetadata> updatedIndices = diff.getIndicesUpdated().stream().map(idx -> {
-                Optional<UploadedIndexMetadata> uploadedIndexMetadataOptional = manifest.getIndices()
-                    .stream()
-                    .filter(idx2 -> idx2.getIndexName().equals(idx))
-                    .findFirst();
-                assert uploadedIndexMetadataOptional.isPresent() == true;
-                return uploadedIndexMetadataOptional.get();
+                UploadedIndexMetadata uploadedIndexMetadata = uploadedIndicesByName.get(idx);
+                assert uploadedIndexMetadata != null;
+                return uploadedIndexMetadata;
             }).collect(Collectors.toList());
 
             Map<String, UploadedMetadataAttribute> updatedCustomMetadata = new HashMap<>();
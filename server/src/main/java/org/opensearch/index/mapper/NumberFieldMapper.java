@@ -49,6 +49,7 @@ import org.apache.lucene.search.Query;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.NumericUtils;
 import org.opensearch.common.Explicit;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.Numbers;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.lucene.search.Queries;
@@ -75,13 +76,11 @@ import org.opensearch.search.query.Bitmap64DocValuesQuery;
 import org.opensearch.search.query.Bitmap64IndexQuery;
 import org.opensearch.search.query.BitmapDocValuesQuery;
 import org.opensearch.search.query.BitmapIndexQuery;
+import org.opensearch.search.query.DecodedBitmapCache;
 import org.opensearch.tools.jackson.core.JsonParseException;
 
-import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.math.BigInteger;
-import java.nio.ByteBuffer;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -1160,13 +1159,14 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
             }
 
             @Override
-            public Query bitmapQuery(String field, BytesArray bitmapArray, boolean isSearchable, boolean hasDocValues) {
-                RoaringBitmap bitmap = new RoaringBitmap();
-                try {
-                    bitmap.deserialize(ByteBuffer.wrap(bitmapArray.array()));
-                } catch (Exception e) {
-                    throw new IllegalArgumentException("Failed to deserialize the bitmap.", e);
-                }
+            public Query bitmapQuery(
+                String field,
+                BytesArray bitmapArray,
+                boolean isSearchable,
+                boolean hasDocValues,
+                @Nullable DecodedBitmapCache cache
+            ) {
+                RoaringBitmap bitmap = cache == null ? DecodedBitmapCache.decode(bitmapArray) : cache.getOrDecode(bitmapArray);
 
                 if (isSearchable && hasDocValues) {
                     return new IndexOrDocValuesQuery(new BitmapIndexQuery(field, bitmap), new BitmapDocValuesQuery(field, bitmap));
@@ -1372,19 +1372,17 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
             }
 
             @Override
-            public Query bitmapQuery(String field, BytesArray bitmapArray, boolean isSearchable, boolean hasDocValues) {
-                // Extract bytes safely
-                BytesRef ref = bitmapArray.toBytesRef();
-                byte[] bytes = Arrays.copyOfRange(ref.bytes, ref.offset, ref.offset + ref.length);
-
-                Roaring64NavigableMap bitmap64 = new Roaring64NavigableMap();
-                try {
-                    bitmap64.deserializePortable(new DataInputStream(new ByteArrayInputStream(bytes)));
-                } catch (IOException e) {
-                    throw new IllegalArgumentException("Failed to deserialize the 64-bit bitmap.", e);
-                }
-
+            public Query bitmapQuery(
+                String field,
+                BytesArray bitmapArray,
+                boolean isSearchable,
+                boolean hasDocValues,
+                @Nullable DecodedBitmapCache cache
+            ) {
                 // Note: bitmap64 instance is safely shared between queries as both perform read-only operations
+                Roaring64NavigableMap bitmap64 = cache == null
+                    ? DecodedBitmapCache.decode64(bitmapArray)
+                    : cache.getOrDecode64(bitmapArray);
                 if (isSearchable && hasDocValues) {
                     return new IndexOrDocValuesQuery(new Bitmap64IndexQuery(field, bitmap64), new Bitmap64DocValuesQuery(field, bitmap64));
                 }
@@ -1664,7 +1662,13 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
 
         public abstract Query termsQuery(String field, List<Object> values, boolean hasDocValues, boolean isSearchable);
 
-        public Query bitmapQuery(String field, BytesArray bitmap, boolean isSearchable, boolean hasDocValues) {
+        public Query bitmapQuery(
+            String field,
+            BytesArray bitmap,
+            boolean isSearchable,
+            boolean hasDocValues,
+            @Nullable DecodedBitmapCache cache
+        ) {
             throw new IllegalArgumentException("Field [" + name + "] of type [" + typeName() + "] does not support bitmap queries");
         }
 
@@ -2001,8 +2005,17 @@ public class NumberFieldMapper extends ParametrizedFieldMapper {
         }
 
         public Query bitmapQuery(BytesArray bitmap) {
+            return bitmapQuery(bitmap, null);
+        }
+
+        /**
+         * Returns a query matching the values of the serialized bitmap, which is looked up in the node's
+         * {@link DecodedBitmapCache} of the context if it has one.
+         */
+        public Query bitmapQuery(BytesArray bitmap, @Nullable QueryShardContext context) {
             failIfNotIndexedAndNoDocValues();
-            return type.bitmapQuery(name(), bitmap, isSearchable(), hasDocValues());
+            DecodedBitmapCache cache = context == null ? null : context.getDecodedBitmapCache();
+            return type.bitmapQuery(name(), bitmap, isSearchable(), hasDocValues(), cache);
         }
 
         @Override
@@ -40,6 +40,7 @@ import org.apache.lucene.search.join.BitSetProducer;
 import org.apache.lucene.search.similarities.Similarity;
 import org.opensearch.Version;
 import org.opensearch.common.CheckedFunction;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.TriFunction;
 import org.opensearch.common.annotation.PublicApi;
@@ -75,11 +76,13 @@ import org.opensearch.script.ScriptService;
 import org.opensearch.search.aggregations.support.AggregationUsageService;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.lookup.SearchLookup;
+import org.opensearch.search.query.DecodedBitmapCache;
 import org.opensearch.search.startree.StarTreeQueryContext;
 import org.opensearch.transport.RemoteClusterAware;
 import org.opensearch.transport.client.Client;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -93,6 +96,7 @@ import java.util.function.Supplier;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableMap;
 
 /**
@@ -120,6 +124,7 @@ public class QueryShardContext extends BaseQueryRewriteContext {
     private final BooleanSupplier allowExpensiveQueries;
 
     private final Map<String, Query> namedQueries = new HashMap<>();
+    private final List<String> queryRewrites = new ArrayList<>();
     private boolean allowUnmappedFields;
     private boolean mapUnmappedFieldAsString;
     private NestedScope nestedScope;
@@ -128,6 +133,7 @@ public class QueryShardContext extends BaseQueryRewriteContext {
     private DerivedFieldResolver derivedFieldResolver;
     private boolean keywordIndexOrDocValuesEnabled;
     private boolean isInnerHitQuery;
+    private DecodedBitmapCache decodedBitmapCache;
 
     private StarTreeQueryContext starTreeQueryContext;
 
@@ -287,6 +293,7 @@ public class QueryShardContext extends BaseQueryRewriteContext {
             source.validate(),
             source.keywordIndexOrDocValuesEnabled
         );
+        this.decodedBitmapCache = source.decodedBitmapCache;
     }
 
     private QueryShardContext(
@@ -339,6 +346,7 @@ public class QueryShardContext extends BaseQueryRewriteContext {
         allowUnmappedFields = indexSettings.isDefaultAllowUnmappedFields();
         this.lookup = null;
         this.namedQueries.clear();
+        this.queryRewrites.clear();
         this.nestedScope = new NestedScope(indexSettings);
     }
 
@@ -401,6 +409,17 @@ public class QueryShardContext extends BaseQueryRewriteContext {
         return unmodifiableMap(new HashMap<>(namedQueries));
     }
 
+    /**
+     * Records a statistics-driven rewrite of the query so that it can be reported by the profile API.
+     */
+    public void addQueryRewrite(String description) {
+        queryRewrites.add(description);
+    }
+
+    public List<String> getQueryRewrites() {
+        return unmodifiableList(queryRewrites);
+    }
+
     /**
      * Returns all the fields that match a given pattern. If prefixed with a
      * type then the fields will be returned with a type prefix.
@@ -486,6 +505,19 @@ public class QueryShardContext extends BaseQueryRewriteContext {
         this.keywordIndexOrDocValuesEnabled = keywordIndexOrDocValuesEnabled;
     }
 
+    /**
+     * Returns the node's cache of decoded bitmaps for bitmap terms queries, or {@code null} if bitmaps are decoded for
+     * every query.
+     */
+    @Nullable
+    public DecodedBitmapCache getDecodedBitmapCache() {
+        return decodedBitmapCache;
+    }
+
+    public void setDecodedBitmapCache(DecodedBitmapCache decodedBitmapCache) {
+        this.decodedBitmapCache = decodedBitmapCache;
+    }
+
     public void setAllowUnmappedFields(boolean allowUnmappedFields) {
         this.allowUnmappedFields = allowUnmappedFields;
     }
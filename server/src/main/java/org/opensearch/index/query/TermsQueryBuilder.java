@@ -565,7 +565,7 @@ public class TermsQueryBuilder extends AbstractQueryBuilder<TermsQueryBuilder> i
             && values.size() == 1
             && values.get(0) instanceof BytesArray bytesArray
             && fieldType.unwrap() instanceof NumberFieldMapper.NumberFieldType numberFieldType) {
-            return numberFieldType.bitmapQuery(bytesArray);
+            return numberFieldType.bitmapQuery(bytesArray, context);
         }
         return fieldType.termsQuery(values, context);
     }
@@ -693,6 +693,19 @@ public class TermsQueryBuilder extends AbstractQueryBuilder<TermsQueryBuilder> i
         }
     }
 
+    /**
+     * Decodes the bitmap fetched by a terms lookup, the source of the lookup doc holds it base64 encoded.
+     */
+    private static List<?> fetchedBitmap(List<?> values) {
+        if (values.size() > 1) {
+            throw new IllegalArgumentException("Invalid value for bitmap type: Expected a single base64 encoded serialized bitmap.");
+        }
+        if (values.size() == 1 && values.get(0) instanceof String encoded) {
+            return List.of(new BytesArray(Base64.getDecoder().decode(encoded)));
+        }
+        return values;
+    }
+
     @Override
     protected int doHashCode() {
         return Objects.hash(fieldName, values, termsLookup, supplier, valueType);
@@ -710,7 +723,11 @@ public class TermsQueryBuilder extends AbstractQueryBuilder<TermsQueryBuilder> i
     @Override
     protected QueryBuilder doRewrite(QueryRewriteContext queryRewriteContext) throws IOException {
         if (supplier != null) {
-            return supplier.get() == null ? this : new TermsQueryBuilder(this.fieldName, supplier.get(), valueType);
+            if (supplier.get() == null) {
+                return this;
+            }
+            List<?> fetched = valueType == ValueType.BITMAP ? fetchedBitmap(supplier.get()) : supplier.get();
+            return new TermsQueryBuilder(this.fieldName, fetched, valueType);
         }
         // Support: terms lookup by document id && Support: terms lookup by subquery
         else if (this.termsLookup != null && (this.termsLookup.id() != null || this.termsLookup.query() != null)) {
@@ -143,6 +143,14 @@ public class BulkByScrollTask extends CancellableTask {
      * Sets this task to be a leader task for {@code slices} sliced subtasks
      */
     public void setWorkerCount(int slices) {
+        setWorkerCount(slices, slices);
+    }
+
+    /**
+     * Sets this task to be a leader task for {@code slices} sliced subtasks, of which at most {@code maxConcurrentSlices}
+     * run at the same time
+     */
+    public void setWorkerCount(int slices, int maxConcurrentSlices) {
         if (isLeader()) {
             throw new IllegalStateException("This task is already a leader for other slice subtasks");
         }
@@ -150,7 +158,7 @@ public class BulkByScrollTask extends CancellableTask {
             throw new IllegalStateException("This task is already a worker");
         }
 
-        leaderState = new LeaderBulkByScrollTaskState(this, slices);
+        leaderState = new LeaderBulkByScrollTaskState(this, slices, maxConcurrentSlices);
     }
 
     /**
@@ -60,10 +60,28 @@ public class LeaderBulkByScrollTaskState {
      * How many subtasks are still running
      */
     private final AtomicInteger runningSubtasks;
+    /**
+     * How many subtasks are allowed to run at the same time. Subtasks beyond this limit are started as running ones finish.
+     */
+    private final int maxConcurrentSubtasks;
+    /**
+     * The requests per second of the whole request as set by the last rethrottle, or {@link Float#NaN} if it was never rethrottled
+     */
+    private volatile float requestsPerSecond = Float.NaN;
 
     public LeaderBulkByScrollTaskState(BulkByScrollTask task, int slices) {
+        this(task, slices, slices);
+    }
+
+    public LeaderBulkByScrollTaskState(BulkByScrollTask task, int slices, int maxConcurrentSubtasks) {
+        if (maxConcurrentSubtasks < 1 || maxConcurrentSubtasks > slices) {
+            throw new IllegalArgumentException(
+                "max concurrent subtasks must be between 1 and [" + slices + "] but was [" + maxConcurrentSubtasks + "]"
+            );
+        }
         this.task = task;
         this.slices = slices;
+        this.maxConcurrentSubtasks = maxConcurrentSubtasks;
         results = new AtomicArray<>(slices);
         runningSubtasks = new AtomicInteger(slices);
     }
@@ -75,6 +93,29 @@ public class LeaderBulkByScrollTaskState {
         return slices;
     }
 
+    /**
+     * Returns the number of slice subtasks that are allowed to run at the same time
+     */
+    public int getMaxConcurrentSubtasks() {
+        return maxConcurrentSubtasks;
+    }
+
+    /**
+     * Record the new requests per second of the whole request, so that slice subtasks started after a rethrottle use it
+     */
+    public void rethrottle(float newRequestsPerSecond) {
+        this.requestsPerSecond = newRequestsPerSecond;
+    }
+
+    /**
+     * The requests per second a newly started slice subtask should use, given the requests per second the request was created with.
+     * The throughput is split between the subtasks that are allowed to run at the same time.
+     */
+    public float subtaskRequestsPerSecond(float requestRequestsPerSecond) {
+        float current = Float.isNaN(requestsPerSecond) ? requestRequestsPerSecond : requestsPerSecond;
+        return current / maxConcurrentSubtasks;
+    }
+
     /**
      * Get the combined statuses of slice subtasks, merged with the given list of statuses
      */
@@ -95,12 +136,19 @@ public class LeaderBulkByScrollTaskState {
     }
 
     /**
-     * The number of sliced subtasks that are still running
+     * The number of sliced subtasks that are still running, including the ones that are waiting to be started
      */
     public int runningSliceSubTasks() {
         return runningSubtasks.get();
     }
 
+    /**
+     * The number of sliced subtasks that are actually executing at the moment, which is bounded by {@link #getMaxConcurrentSubtasks()}
+     */
+    public int concurrentSliceSubTasks() {
+        return Math.min(runningSubtasks.get(), maxConcurrentSubtasks);
+    }
+
     private void addResultsToList(List<BulkByScrollTask.StatusOrException> sliceStatuses) {
         for (Result t : results.asList()) {
             if (t.response != null) {
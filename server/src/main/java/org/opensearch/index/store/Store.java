@@ -113,6 +113,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -1329,20 +1330,37 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
          */
         private Iterable<List<StoreFileMetadata>> getGroupedFilesIterable() {
             final Map<String, List<StoreFileMetadata>> perSegment = new HashMap<>();
+            final Map<String, List<StoreFileMetadata>> perSegmentUpdates = new HashMap<>();
             final List<StoreFileMetadata> perCommitStoreFiles = new ArrayList<>();
             for (StoreFileMetadata meta : this) {
                 final String segmentId = IndexFileNames.parseSegmentName(meta.name());
                 final String extension = IndexFileNames.getExtension(meta.name());
-                if (IndexFileNames.SEGMENTS.equals(segmentId)
-                    || DEL_FILE_EXTENSION.equals(extension)
-                    || LIV_FILE_EXTENSION.equals(extension)) {
+                if (isPerCommitFile(segmentId, extension)) {
                     // only treat del files as per-commit files fnm files are generational but only for upgradable DV
                     perCommitStoreFiles.add(meta);
+                } else if (isDocValuesUpdateFile(meta.name())) {
+                    perSegmentUpdates.computeIfAbsent(segmentId, k -> new ArrayList<>()).add(meta);
                 } else {
                     perSegment.computeIfAbsent(segmentId, k -> new ArrayList<>()).add(meta);
                 }
             }
-            return Iterables.concat(perSegment.values(), Collections.singleton(perCommitStoreFiles));
+            // the segments come first so that the updates of a segment can be checked against its files
+            return Iterables.concat(perSegment.values(), perSegmentUpdates.values(), Collections.singleton(perCommitStoreFiles));
+        }
+
+        /**
+         * Returns true if the given file is a generational field-info or doc values file written by a doc values
+         * update (for instance soft deletes) rather than by the flush or merge that created the segment.
+         */
+        private static boolean isDocValuesUpdateFile(String fileName) {
+            return isPerCommitFile(IndexFileNames.parseSegmentName(fileName), IndexFileNames.getExtension(fileName)) == false
+                && IndexFileNames.parseGeneration(fileName) > 0;
+        }
+
+        private static boolean isPerCommitFile(String segmentId, String extension) {
+            return IndexFileNames.SEGMENTS.equals(segmentId)
+                || DEL_FILE_EXTENSION.equals(extension)
+                || LIV_FILE_EXTENSION.equals(extension);
         }
 
         /**
@@ -1366,6 +1384,10 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
          * The {@code .si} file contains a lot of diagnostics including a timestamp etc. in the future there might be
          * unique segment identifiers in there hardening this method further.
          * <p>
+         * Generational doc values update files ({@code _x_y.fnm}, {@code _x_y_<format>.dvd} etc.) of a segment form their
+         * own group, so a segment whose soft deletes or doc values were updated only needs its updates to be recovered.
+         * They are never treated as identical if the files of the segment they belong to are not.
+         * <p>
          * The per-commit files handles very similar. A commit is composed of the {@code segments_N} files as well as generational files
          * like deletes ({@code _x_y.del}) or field-info ({@code _x_y.fnm}) files. On a per-commit level files for a commit are treated
          * as identical iff:
@@ -1383,9 +1405,19 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
             final List<StoreFileMetadata> different = new ArrayList<>();
             final List<StoreFileMetadata> missing = new ArrayList<>();
             final ArrayList<StoreFileMetadata> identicalFiles = new ArrayList<>();
+            final Set<String> inconsistentSegments = new HashSet<>();
             for (List<StoreFileMetadata> segmentFiles : getGroupedFilesIterable()) {
                 identicalFiles.clear();
                 boolean consistent = true;
+                String segmentId = null;
+                if (segmentFiles.isEmpty() == false) {
+                    final String fileName = segmentFiles.get(0).name();
+                    segmentId = IndexFileNames.parseSegmentName(fileName);
+                    if (isDocValuesUpdateFile(fileName) && inconsistentSegments.contains(segmentId)) {
+                        // updates can only be reused on top of the very same segment
+                        consistent = false;
+                    }
+                }
                 for (StoreFileMetadata meta : segmentFiles) {
                     StoreFileMetadata storeFileMetadata = recoveryTargetSnapshot.get(meta.name());
                     if (storeFileMetadata == null) {
@@ -1403,6 +1435,7 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
                 } else {
                     // make sure all files are added - this can happen if only the deletes are different
                     different.addAll(identicalFiles);
+                    inconsistentSegments.add(segmentId);
                 }
             }
             RecoveryDiff recoveryDiff = new RecoveryDiff(
@@ -179,6 +179,7 @@ import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.query.DecodedBitmapCache;
 import org.opensearch.search.query.QueryPhase;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.threadpool.ThreadPool;
@@ -396,6 +397,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private final TimeValue cleanInterval; // clean interval for the field data cache
     final IndicesRequestCache indicesRequestCache; // pkg-private for testing
     private final IndicesQueryCache indicesQueryCache;
+    private final DecodedBitmapCache decodedBitmapCache;
     private final MetaStateService metaStateService;
     private final Collection<Function<IndexSettings, Optional<EngineFactory>>> engineFactoryProviders;
     private final Map<String, IndexStorePlugin.DirectoryFactory> directoryFactories;
@@ -495,6 +497,9 @@ public class IndicesService extends AbstractLifecycleComponent
             return Optional.of(new IndexShardCacheEntity(indexService.getShardOrNull(shardId.id())));
         }), cacheService, threadPool, clusterService, nodeEnv);
         this.indicesQueryCache = new IndicesQueryCache(settings, clusterService.getClusterSettings());
+        this.decodedBitmapCache = new DecodedBitmapCache(settings);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(DecodedBitmapCache.INDICES_BITMAP_CACHE_SIZE_SETTING, decodedBitmapCache::setCacheSize);
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
         indexingMemoryController = new IndexingMemoryController(
@@ -549,7 +554,8 @@ public class IndicesService extends AbstractLifecycleComponent
                         indicesFieldDataCache,
                         cacheCleaner,
                         indicesRequestCache,
-                        indicesQueryCache
+                        indicesQueryCache,
+                        decodedBitmapCache
                     );
                 } catch (IOException e) {
                     throw new UncheckedIOException(e);
@@ -1418,6 +1424,10 @@ public class IndicesService extends AbstractLifecycleComponent
         return indicesQueryCache;
     }
 
+    public DecodedBitmapCache getDecodedBitmapCache() {
+        return decodedBitmapCache;
+    }
+
     /**
      * Accumulate stats from the passed Object. Use this instead of
      * {@link #addDocStatusStats(org.opensearch.index.shard.IndexingStats.Stats.DocStatusStats)} after
@@ -250,6 +250,30 @@ public class RecoverySettings {
         Property.NodeScope
     );
 
+    /**
+     * Maximum number of replicas that copy segments from a single in-sync replica instead of from the primary.
+     * Replicas of a shard are arranged into a tree per awareness zone with this fan-out; {@code 0} disables relaying
+     * so that every replica copies from the primary.
+     */
+    public static final Setting<Integer> INDICES_REPLICATION_RELAY_FAN_OUT_SETTING = Setting.intSetting(
+        "indices.replication.relay.fan_out",
+        0,
+        0,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * How long a replica waits for its relay to reach the checkpoint being replicated before copying from the primary instead.
+     */
+    public static final Setting<TimeValue> INDICES_REPLICATION_RELAY_MAX_WAIT_SETTING = Setting.timeSetting(
+        "indices.replication.relay.max_wait",
+        TimeValue.timeValueSeconds(5),
+        TimeValue.timeValueSeconds(0),
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     private volatile ByteSizeValue mergedSegmentWarmerMinSegmentSizeThreshold;
     private volatile ByteSizeValue recoveryMaxBytesPerSec;
     private volatile ByteSizeValue replicationMaxBytesPerSec;
@@ -274,6 +298,8 @@ public class RecoverySettings {
 
     private volatile boolean isTranslogConcurrentRecoveryEnable;
     private volatile int translogConcurrentRecoveryBatchSize;
+    private volatile int replicationRelayFanOut;
+    private volatile TimeValue replicationRelayMaxWait;
 
     public RecoverySettings(Settings settings, ClusterSettings clusterSettings) {
         this.retryDelayStateSync = INDICES_RECOVERY_RETRY_DELAY_STATE_SYNC_SETTING.get(settings);
@@ -311,6 +337,8 @@ public class RecoverySettings {
 
         this.isTranslogConcurrentRecoveryEnable = INDICES_TRANSLOG_CONCURRENT_RECOVERY_ENABLE.get(settings);
         this.translogConcurrentRecoveryBatchSize = INDICES_TRANSLOG_CONCURRENT_RECOVERY_BATCH_SIZE.get(settings);
+        this.replicationRelayFanOut = INDICES_REPLICATION_RELAY_FAN_OUT_SETTING.get(settings);
+        this.replicationRelayMaxWait = INDICES_REPLICATION_RELAY_MAX_WAIT_SETTING.get(settings);
 
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_MAX_BYTES_PER_SEC_SETTING, this::setRecoveryMaxBytesPerSec);
         clusterSettings.addSettingsUpdateConsumer(INDICES_REPLICATION_MAX_BYTES_PER_SEC_SETTING, this::setReplicationMaxBytesPerSec);
@@ -355,6 +383,8 @@ public class RecoverySettings {
             INDICES_TRANSLOG_CONCURRENT_RECOVERY_BATCH_SIZE,
             this::setTranslogConcurrentRecoveryBatchSize
         );
+        clusterSettings.addSettingsUpdateConsumer(INDICES_REPLICATION_RELAY_FAN_OUT_SETTING, this::setReplicationRelayFanOut);
+        clusterSettings.addSettingsUpdateConsumer(INDICES_REPLICATION_RELAY_MAX_WAIT_SETTING, this::setReplicationRelayMaxWait);
     }
 
     private void setMergedSegmentWarmerMinSegmentSizeThreshold(ByteSizeValue value) {
@@ -539,4 +569,20 @@ public class RecoverySettings {
     private void setTranslogConcurrentRecoveryBatchSize(int translogConcurrentRecoveryBatchSize) {
         this.translogConcurrentRecoveryBatchSize = translogConcurrentRecoveryBatchSize;
     }
+
+    public int getReplicationRelayFanOut() {
+        return replicationRelayFanOut;
+    }
+
+    private void setReplicationRelayFanOut(int replicationRelayFanOut) {
+        this.replicationRelayFanOut = replicationRelayFanOut;
+    }
+
+    public TimeValue getReplicationRelayMaxWait() {
+        return replicationRelayMaxWait;
+    }
+
+    private void setReplicationRelayMaxWait(TimeValue replicationRelayMaxWait) {
+        this.replicationRelayMaxWait = replicationRelayMaxWait;
+    }
 }
@@ -16,6 +16,7 @@ import org.opensearch.indices.replication.checkpoint.MergedSegmentCheckpoint;
 import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
 import org.opensearch.indices.replication.common.ReplicationListener;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.function.BiConsumer;
 
@@ -55,6 +56,11 @@ public class MergedSegmentReplicationTarget extends AbstractSegmentReplicationTa
         List<StoreFileMetadata> filesToFetch,
         StepListener<GetSegmentFilesResponse> getFilesListener
     ) {
+        if (filesToFetch.isEmpty()) {
+            // every file of the merged segment is already on disk, e.g. from an earlier attempt
+            getFilesListener.onResponse(new GetSegmentFilesResponse(Collections.emptyList()));
+            return;
+        }
         source.getMergedSegmentFiles(
             getId(),
             checkpoint,
@@ -0,0 +1,291 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.CancellableThreads;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.EmptyTransportResponseHandler;
+import org.opensearch.transport.TransportException;
+import org.opensearch.transport.TransportRequestOptions;
+import org.opensearch.transport.TransportService;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.opensearch.indices.replication.SegmentReplicationSourceService.Actions.UPDATE_VISIBLE_CHECKPOINT;
+
+/**
+ * Implementation of a {@link SegmentReplicationSource} that copies segments from another replica of the same
+ * replication group, so that the primary only has to send new segments to a few replicas. The relay can only serve
+ * checkpoints it has already copied itself, so the target polls it for up to
+ * {@link RecoverySettings#getReplicationRelayMaxWait()} and copies from the primary if the relay does not catch up
+ * or fails. Because the primary does not take part in a relayed copy, the target reports the checkpoint it received
+ * to the primary once the files are copied.
+ * This code executes on the target node.
+ *
+ * @opensearch.internal
+ */
+public class RelayReplicationSource implements SegmentReplicationSource {
+
+    private static final Logger logger = LogManager.getLogger(RelayReplicationSource.class);
+
+    static final TimeValue RELAY_RETRY_INTERVAL = TimeValue.timeValueMillis(100);
+
+    private final SegmentReplicationSource relaySource;
+    private final SegmentReplicationSource primarySource;
+    private final DiscoveryNode relayNode;
+    private final DiscoveryNode primaryNode;
+    private final ShardId primaryShardId;
+    private final String targetAllocationId;
+    private final TransportService transportService;
+    private final RecoverySettings recoverySettings;
+
+    private volatile SegmentReplicationSource activeSource;
+    private volatile ReplicationCheckpoint relayedCheckpoint;
+    private volatile boolean cancelled;
+
+    public RelayReplicationSource(
+        DiscoveryNode targetNode,
+        String targetAllocationId,
+        TransportService transportService,
+        RecoverySettings recoverySettings,
+        ShardId primaryShardId,
+        DiscoveryNode primaryNode,
+        DiscoveryNode relayNode
+    ) {
+        this(
+            new PrimaryShardReplicationSource(targetNode, targetAllocationId, transportService, recoverySettings, relayNode),
+            new PrimaryShardReplicationSource(targetNode, targetAllocationId, transportService, recoverySettings, primaryNode),
+            relayNode,
+            primaryNode,
+            primaryShardId,
+            targetAllocationId,
+            transportService,
+            recoverySettings
+        );
+    }
+
+    RelayReplicationSource(
+        SegmentReplicationSource relaySource,
+        SegmentReplicationSource primarySource,
+        DiscoveryNode relayNode,
+        DiscoveryNode primaryNode,
+        ShardId primaryShardId,
+        String targetAllocationId,
+        TransportService transportService,
+        RecoverySettings recoverySettings
+    ) {
+        this.relaySource = relaySource;
+        this.primarySource = primarySource;
+        this.relayNode = relayNode;
+        this.primaryNode = primaryNode;
+        this.primaryShardId = primaryShardId;
+        this.targetAllocationId = targetAllocationId;
+        this.transportService = transportService;
+        this.recoverySettings = recoverySettings;
+        this.activeSource = relaySource;
+    }
+
+    @Override
+    public void getCheckpointMetadata(
+        long replicationId,
+        ReplicationCheckpoint checkpoint,
+        ActionListener<CheckpointInfoResponse> listener
+    ) {
+        final long maxWaitMillis = recoverySettings.getReplicationRelayMaxWait().millis();
+        final long deadline = transportService.getThreadPool().relativeTimeInMillis() + maxWaitMillis;
+        getCheckpointMetadataFromRelay(replicationId, checkpoint, deadline, listener);
+    }
+
+    private void getCheckpointMetadataFromRelay(
+        long replicationId,
+        ReplicationCheckpoint checkpoint,
+        long deadline,
+        ActionListener<CheckpointInfoResponse> listener
+    ) {
+        if (cancelled) {
+            listener.onFailure(new CancellableThreads.ExecutionCancelledException("replication was canceled"));
+            return;
+        }
+        relaySource.getCheckpointMetadata(replicationId, checkpoint, new ActionListener<>() {
+            @Override
+            public void onResponse(CheckpointInfoResponse response) {
+                if (checkpoint.isAheadOf(response.getCheckpoint())) {
+                    final Exception cause = new IllegalStateException("relay is at checkpoint " + response.getCheckpoint());
+                    // The relay keeps a single copy state per target and reuses it for the next checkpoint request, so it
+                    // has to be released before trying again. Otherwise the retry would see the same stale checkpoint, or the
+                    // release would consume the copy state of the retry.
+                    relaySource.getSegmentFiles(
+                        replicationId,
+                        response.getCheckpoint(),
+                        Collections.emptyList(),
+                        null,
+                        (fileName, bytesRecovered) -> {},
+                        ActionListener.wrap(r -> retryOrFallBack(replicationId, checkpoint, deadline, listener, cause), e -> {
+                            cause.addSuppressed(e);
+                            retryOrFallBack(replicationId, checkpoint, deadline, listener, cause);
+                        })
+                    );
+                } else {
+                    relayedCheckpoint = response.getCheckpoint();
+                    listener.onResponse(response);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                retryOrFallBack(replicationId, checkpoint, deadline, listener, e);
+            }
+        });
+    }
+
+    private void retryOrFallBack(
+        long replicationId,
+        ReplicationCheckpoint checkpoint,
+        long deadline,
+        ActionListener<CheckpointInfoResponse> listener,
+        Exception cause
+    ) {
+        if (cancelled) {
+            listener.onFailure(new CancellableThreads.ExecutionCancelledException("replication was canceled"));
+            return;
+        }
+        final ThreadPool threadPool = transportService.getThreadPool();
+        if (threadPool.relativeTimeInMillis() + RELAY_RETRY_INTERVAL.millis() < deadline) {
+            threadPool.schedule(
+                () -> getCheckpointMetadataFromRelay(replicationId, checkpoint, deadline, listener),
+                RELAY_RETRY_INTERVAL,
+                ThreadPool.Names.GENERIC
+            );
+            return;
+        }
+        logger.debug(
+            () -> new ParameterizedMessage(
+                "[replication id {}] relay [{}] cannot serve checkpoint {}, copying from primary [{}]",
+                replicationId,
+                relayNode.getName(),
+                checkpoint,
+                primaryNode.getName()
+            ),
+            cause
+        );
+        activeSource = primarySource;
+        primarySource.getCheckpointMetadata(replicationId, checkpoint, listener);
+    }
+
+    @Override
+    public void getSegmentFiles(
+        long replicationId,
+        ReplicationCheckpoint checkpoint,
+        List<StoreFileMetadata> filesToFetch,
+        IndexShard indexShard,
+        BiConsumer<String, Long> fileProgressTracker,
+        ActionListener<GetSegmentFilesResponse> listener
+    ) {
+        final SegmentReplicationSource source = activeSource;
+        if (source == relaySource) {
+            source.getSegmentFiles(
+                replicationId,
+                checkpoint,
+                filesToFetch,
+                indexShard,
+                fileProgressTracker,
+                // a failed or cancelled copy must not be reported as visible
+                ActionListener.delegateFailure(listener, (delegate, response) -> {
+                    updateVisibleCheckpointOnPrimary(replicationId, relayedCheckpoint);
+                    delegate.onResponse(response);
+                })
+            );
+        } else {
+            source.getSegmentFiles(replicationId, checkpoint, filesToFetch, indexShard, fileProgressTracker, listener);
+        }
+    }
+
+    /**
+     * Only the primary can send merged segments ahead of the checkpoint that references them.
+     */
+    @Override
+    public void getMergedSegmentFiles(
+        long replicationId,
+        ReplicationCheckpoint checkpoint,
+        List<StoreFileMetadata> filesToFetch,
+        IndexShard indexShard,
+        BiConsumer<String, Long> fileProgressTracker,
+        ActionListener<GetSegmentFilesResponse> listener
+    ) {
+        primarySource.getMergedSegmentFiles(replicationId, checkpoint, filesToFetch, indexShard, fileProgressTracker, listener);
+    }
+
+    /**
+     * The primary learns about copies it sends itself, relayed copies have to be reported like it is done for remote store.
+     */
+    private void updateVisibleCheckpointOnPrimary(long replicationId, ReplicationCheckpoint checkpoint) {
+        if (checkpoint == null) {
+            return;
+        }
+        final UpdateVisibleCheckpointRequest request = new UpdateVisibleCheckpointRequest(
+            replicationId,
+            targetAllocationId,
+            primaryShardId,
+            primaryNode,
+            checkpoint
+        );
+        transportService.sendRequest(
+            primaryNode,
+            UPDATE_VISIBLE_CHECKPOINT,
+            request,
+            TransportRequestOptions.builder().withTimeout(recoverySettings.internalActionTimeout()).build(),
+            new EmptyTransportResponseHandler(ThreadPool.Names.SAME) {
+                @Override
+                public void handleException(TransportException exp) {
+                    logger.warn(
+                        () -> new ParameterizedMessage(
+                            "[replication id {}] failed to report relayed checkpoint {} to primary [{}]",
+                            replicationId,
+                            checkpoint,
+                            primaryNode.getName()
+                        ),
+                        exp
+                    );
+                }
+            }
+        );
+    }
+
+    /**
+     * Describes the hop the segments are copied over, so replication stats show the lag of each relayed hop.
+     */
+    @Override
+    public String getDescription() {
+        return relayNode.getName() + " (relay for " + primaryNode.getName() + ")";
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        relaySource.cancel();
+        primarySource.cancel();
+    }
+
+    DiscoveryNode getRelayNode() {
+        return relayNode;
+    }
+}
@@ -8,14 +8,23 @@
 
 package org.opensearch.indices.replication;
 
+import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.allocation.decider.AwarenessAllocationDecider;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.transport.TransportService;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * Factory to build {@link SegmentReplicationSource} used by {@link SegmentReplicationTargetService}.
  *
@@ -41,12 +50,31 @@ public class SegmentReplicationSourceFactory {
         if (shard.indexSettings().isAssignedOnRemoteNode()) {
             return new RemoteStoreReplicationSource(shard);
         } else {
+            final DiscoveryNode primaryNode = getPrimaryNode(shard.shardId());
+            final int relayFanOut = recoverySettings.getReplicationRelayFanOut();
+            if (relayFanOut > 0) {
+                final List<String> awarenessAttributes = clusterService.getClusterSettings()
+                    .get(AwarenessAllocationDecider.CLUSTER_ROUTING_ALLOCATION_AWARENESS_ATTRIBUTE_SETTING);
+                final ClusterState state = clusterService.state();
+                final DiscoveryNode relayNode = getRelayNode(state, shard.routingEntry(), relayFanOut, awarenessAttributes);
+                if (relayNode != null) {
+                    return new RelayReplicationSource(
+                        shard.recoveryState().getTargetNode(),
+                        shard.routingEntry().allocationId().getId(),
+                        transportService,
+                        recoverySettings,
+                        shard.shardId(),
+                        primaryNode,
+                        relayNode
+                    );
+                }
+            }
             return new PrimaryShardReplicationSource(
                 shard.recoveryState().getTargetNode(),
                 shard.routingEntry().allocationId().getId(),
                 transportService,
                 recoverySettings,
-                getPrimaryNode(shard.shardId())
+                primaryNode
             );
         }
     }
@@ -59,4 +87,51 @@ public class SegmentReplicationSourceFactory {
         }
         return node;
     }
+
+    /**
+     * Picks the replica that relays segments to the given target. The started replicas of the shard are grouped by their
+     * awareness attribute values and ordered by allocation id, and each group forms a tree with the given fan-out whose
+     * root copies from the primary. This way the primary sends new segments once per zone and copies within a zone stay
+     * local to it.
+     *
+     * @return the node of the relay or {@code null} if the target should copy from the primary
+     */
+    static DiscoveryNode getRelayNode(ClusterState state, ShardRouting target, int fanOut, List<String> awarenessAttributes) {
+        if (target.primary() || target.isSearchOnly()) {
+            return null;
+        }
+        final DiscoveryNodes nodes = state.nodes();
+        final List<String> targetZone = getZone(nodes.get(target.currentNodeId()), awarenessAttributes);
+        final List<ShardRouting> zoneReplicas = state.routingTable()
+            .shardRoutingTable(target.shardId())
+            .replicaShards()
+            .stream()
+            .filter(replica -> replica.started() && replica.isSearchOnly() == false)
+            .filter(replica -> targetZone.equals(getZone(nodes.get(replica.currentNodeId()), awarenessAttributes)))
+            .sorted(Comparator.comparing(replica -> replica.allocationId().getId()))
+            .collect(Collectors.toList());
+        int position = -1;
+        for (int i = 0; i < zoneReplicas.size(); i++) {
+            if (zoneReplicas.get(i).allocationId().getId().equals(target.allocationId().getId())) {
+                position = i;
+                break;
+            }
+        }
+        if (position <= 0) {
+            // the root of the zone, or a replica that is not started yet, copies from the primary
+            return null;
+        }
+        return nodes.get(zoneReplicas.get((position - 1) / fanOut).currentNodeId());
+    }
+
+    private static List<String> getZone(DiscoveryNode node, List<String> awarenessAttributes) {
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        final List<String> zone = new ArrayList<>(awarenessAttributes.size());
+        for (String attribute : awarenessAttributes) {
+            zone.add(node.getAttributes().get(attribute));
+        }
+        return zone;
+    }
 }
@@ -36,6 +36,7 @@ import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.recovery.MultiChunkTransfer;
 import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.indices.recovery.RetryableTransportClient;
+import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
 import org.opensearch.indices.replication.common.ReplicationTimer;
 import org.opensearch.indices.replication.common.SegmentReplicationTransportRequest;
 import org.opensearch.tasks.Task;
@@ -45,8 +46,12 @@ import org.opensearch.transport.TransportRequestHandler;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
@@ -128,6 +133,7 @@ public class SegmentReplicationSourceService extends AbstractLifecycleComponent
         public void messageReceived(CheckpointInfoRequest request, TransportChannel channel, Task task) throws Exception {
             final ReplicationTimer timer = new ReplicationTimer();
             timer.start();
+            ensureCanServeCheckpoint(request.getCheckpoint());
             final RemoteSegmentFileChunkWriter segmentSegmentFileChunkWriter = getRemoteSegmentFileChunkWriter(
                 SegmentReplicationTargetService.Actions.FILE_CHUNK,
                 request,
@@ -153,6 +159,34 @@ public class SegmentReplicationSourceService extends AbstractLifecycleComponent
         }
     }
 
+    /**
+     * A replica relaying segments to other replicas of its replication group can only serve a checkpoint once it
+     * has finished copying it itself. Rejecting the request lets the target wait for the relay or fall back to the
+     * primary.
+     */
+    private void ensureCanServeCheckpoint(ReplicationCheckpoint checkpoint) {
+        final ShardId shardId = checkpoint.getShardId();
+        final IndexShard indexShard = indicesService.indexServiceSafe(shardId.getIndex()).getShard(shardId.id());
+        if (indexShard.isPrimaryMode()) {
+            return;
+        }
+        if (indexShard.state().equals(IndexShardState.STARTED) == false) {
+            throw new IllegalStateException(String.format(Locale.ROOT, "%s is not a started shard and cannot relay segments", shardId));
+        }
+        final ReplicationCheckpoint relayCheckpoint = indexShard.getLatestReplicationCheckpoint();
+        if (checkpoint.isAheadOf(relayCheckpoint)) {
+            throw new IllegalStateException(
+                String.format(
+                    Locale.ROOT,
+                    "%s has not reached checkpoint %s yet, latest checkpoint is %s",
+                    shardId,
+                    checkpoint,
+                    relayCheckpoint
+                )
+            );
+        }
+    }
+
     private class GetSegmentFilesRequestHandler implements TransportRequestHandler<GetSegmentFilesRequest> {
         @Override
         public void messageReceived(GetSegmentFilesRequest request, TransportChannel channel, Task task) throws Exception {
@@ -189,6 +223,18 @@ public class SegmentReplicationSourceService extends AbstractLifecycleComponent
                 throw new IllegalStateException(String.format(Locale.ROOT, "%s is not a started primary shard", shardId));
             }
 
+            // only send the files the replica is missing, so a retried or partially copied merge resumes with the delta
+            final Map<String, StoreFileMetadata> mergedSegmentMetadata = request.getCheckpoint().getMetadataMap();
+            final StoreFileMetadata[] filesToSend = request.getFilesToFetch()
+                .stream()
+                .map(file -> mergedSegmentMetadata.get(file.name()))
+                .filter(Objects::nonNull)
+                .toArray(StoreFileMetadata[]::new);
+            if (filesToSend.length == 0) {
+                listener.onResponse(new GetSegmentFilesResponse(Collections.emptyList()));
+                return;
+            }
+
             RemoteSegmentFileChunkWriter mergedSegmentFileChunkWriter = getRemoteSegmentFileChunkWriter(
                 SegmentReplicationTargetService.Actions.MERGED_SEGMENT_FILE_CHUNK,
                 request,
@@ -211,12 +257,12 @@ public class SegmentReplicationSourceService extends AbstractLifecycleComponent
             final MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer = mergedSegmentFileTransferHandler
                 .createTransfer(
                     indexShard.store(),
-                    request.getCheckpoint().getMetadataMap().values().toArray(new StoreFileMetadata[0]),
+                    filesToSend,
                     () -> 0,
                     new ActionListener<>() {
                         @Override
                         public void onResponse(Void unused) {
-                            listener.onResponse(new GetSegmentFilesResponse(request.getFilesToFetch()));
+                            listener.onResponse(new GetSegmentFilesResponse(List.of(filesToSend)));
                         }
 
                         @Override
@@ -257,21 +303,18 @@ public class SegmentReplicationSourceService extends AbstractLifecycleComponent
         }
         // if a replica for one of the primary shards on this node has closed,
         // we need to ensure its state has cleared up in ongoing replications.
+        // The same applies to replicas that relay segments to other replicas.
         if (event.routingTableChanged()) {
             for (IndexService indexService : indicesService) {
                 if (indexService.getIndexSettings().isSegRepEnabledOrRemoteNode()) {
                     for (IndexShard indexShard : indexService) {
-                        if (indexShard.routingEntry().primary()) {
-                            final IndexMetadata indexMetadata = indexService.getIndexSettings().getIndexMetadata();
-                            final Set<String> inSyncAllocationIds = new HashSet<>(
-                                indexMetadata.inSyncAllocationIds(indexShard.shardId().id())
-                            );
-                            if (indexShard.isPrimaryMode()) {
-                                final Set<String> shardTrackerInSyncIds = indexShard.getReplicationGroup().getInSyncAllocationIds();
-                                inSyncAllocationIds.addAll(shardTrackerInSyncIds);
-                            }
-                            ongoingSegmentReplications.clearOutOfSyncIds(indexShard.shardId(), inSyncAllocationIds);
+                        final IndexMetadata indexMetadata = indexService.getIndexSettings().getIndexMetadata();
+                        final Set<String> inSyncAllocationIds = new HashSet<>(indexMetadata.inSyncAllocationIds(indexShard.shardId().id()));
+                        if (indexShard.routingEntry().primary() && indexShard.isPrimaryMode()) {
+                            final Set<String> shardTrackerInSyncIds = indexShard.getReplicationGroup().getInSyncAllocationIds();
+                            inSyncAllocationIds.addAll(shardTrackerInSyncIds);
                         }
+                        ongoingSegmentReplications.clearOutOfSyncIds(indexShard.shardId(), inSyncAllocationIds);
                     }
                 }
             }
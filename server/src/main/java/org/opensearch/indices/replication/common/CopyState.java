@@ -39,7 +39,9 @@ public class CopyState implements Closeable {
 
     public CopyState(IndexShard shard) throws IOException {
         this.shard = shard;
-        long lastRefreshedCheckpoint = shard.getLastRefreshedCheckpoint();
+        // a replica relaying segments to other replicas serves the infos it received from the primary, which are already capped
+        final boolean capMaxSeqNo = shard.isPrimaryMode();
+        long lastRefreshedCheckpoint = capMaxSeqNo ? shard.getLastRefreshedCheckpoint() : SequenceNumbers.NO_OPS_PERFORMED;
         final Tuple<GatedCloseable<SegmentInfos>, ReplicationCheckpoint> latestSegmentInfosAndCheckpoint = shard
             .getLatestSegmentInfosAndCheckpoint();
         this.segmentInfosRef = latestSegmentInfosAndCheckpoint.v1();
@@ -47,13 +49,15 @@ public class CopyState implements Closeable {
         SegmentInfos segmentInfos = this.segmentInfosRef.get();
 
         SegmentInfos segmentInfosSnapshot = segmentInfos.clone();
-        Map<String, String> userData = segmentInfosSnapshot.getUserData();
-        long maxSeqNo = Long.parseLong(userData.getOrDefault(SequenceNumbers.MAX_SEQ_NO, "-1"));
-        // In the scenario of primary promotion. We need to ensure that the SegmentInfos#version of the new primary shard
-        // is greater than or equal to that of the replicas, and also need to ensure that the local_checkpoint of the new
-        // primary shard is less than or equal to the checkpoint of the Lucene commit.
-        userData.put(SequenceNumbers.MAX_SEQ_NO, Long.toString(Math.min(maxSeqNo, lastRefreshedCheckpoint)));
-        segmentInfosSnapshot.setUserData(userData, false);
+        if (capMaxSeqNo) {
+            Map<String, String> userData = segmentInfosSnapshot.getUserData();
+            long maxSeqNo = Long.parseLong(userData.getOrDefault(SequenceNumbers.MAX_SEQ_NO, "-1"));
+            // In the scenario of primary promotion. We need to ensure that the SegmentInfos#version of the new primary shard
+            // is greater than or equal to that of the replicas, and also need to ensure that the local_checkpoint of the new
+            // primary shard is less than or equal to the checkpoint of the Lucene commit.
+            userData.put(SequenceNumbers.MAX_SEQ_NO, Long.toString(Math.min(maxSeqNo, lastRefreshedCheckpoint)));
+            segmentInfosSnapshot.setUserData(userData, false);
+        }
 
         ByteBuffersDataOutput buffer = new ByteBuffersDataOutput();
         // resource description and name are not used, but resource description cannot be null
@@ -172,6 +172,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -185,6 +186,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -319,6 +321,12 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
      */
     private static final int MAX_SAFE_ARRAY_SIZE = Integer.MAX_VALUE - 8;
 
+    /**
+     * Above this number of updated indices, the stale snapshot shard paths are found with a single listing of all shard paths
+     * instead of one listing per index.
+     */
+    static final int MAX_SHARD_PATHS_PREFIX_LISTINGS = 4;
+
     /**
      * When set to {@code true}, {@link #bestEffortConsistency} will be set to {@code true} and concurrent modifications of the repository
      * contents will not result in the repository being marked as corrupted.
@@ -2721,22 +2729,39 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
      * on account of new indexes by same index name being snapshotted that exists already in the repository's snapshots.
      */
     private void cleanupRedundantSnapshotShardPaths(Set<String> updatedShardPathsIndexIds) {
+        if (updatedShardPathsIndexIds.isEmpty()) {
+            // most snapshots only add shard generations to known indices, there is nothing to clean up then
+            return;
+        }
         try {
             Set<String> updatedIndexIds = updatedShardPathsIndexIds.stream()
                 .map(s -> getIndexId(s.split("\\" + SnapshotShardPaths.DELIMITER)[0]))
                 .collect(Collectors.toSet());
             logger.debug(new ParameterizedMessage("updatedIndexIds={}", updatedIndexIds));
-            Set<String> indexIdShardPaths = getSnapshotShardPaths().keySet();
+            final BlobContainer shardPathsContainer = snapshotShardPathBlobContainer();
+            final Set<String> indexIdShardPaths = new HashSet<>();
+            if (updatedIndexIds.size() <= MAX_SHARD_PATHS_PREFIX_LISTINGS) {
+                // only list the shard paths of the few updated indices instead of every shard path in the repository
+                for (String indexId : updatedIndexIds) {
+                    indexIdShardPaths.addAll(
+                        shardPathsContainer.listBlobsByPrefix(SnapshotShardPaths.FILE_PREFIX + indexId + SnapshotShardPaths.DELIMITER)
+                            .keySet()
+                    );
+                }
+            } else {
+                // a single listing is cheaper than one listing per index, e.g. for the first snapshot of many indices
+                for (String shardPath : shardPathsContainer.listBlobsByPrefix(SnapshotShardPaths.FILE_PREFIX).keySet()) {
+                    if (updatedIndexIds.contains(getIndexId(shardPath.split("\\" + SnapshotShardPaths.DELIMITER)[0]))) {
+                        indexIdShardPaths.add(shardPath);
+                    }
+                }
+            }
             logger.debug(new ParameterizedMessage("indexIdShardPaths={}", indexIdShardPaths));
             List<String> staleShardPaths = indexIdShardPaths.stream()
                 .filter(s -> updatedShardPathsIndexIds.contains(s) == false)
-                .filter(s -> {
-                    String indexId = getIndexId(s.split("\\" + SnapshotShardPaths.DELIMITER)[0]);
-                    return updatedIndexIds.contains(indexId);
-                })
                 .collect(Collectors.toList());
             logger.debug(new ParameterizedMessage("staleShardPaths={}", staleShardPaths));
-            deleteFromContainer(snapshotShardPathBlobContainer(), staleShardPaths);
+            deleteFromContainer(shardPathsContainer, staleShardPaths);
         } catch (Exception e) {
             logger.warn(
                 new ParameterizedMessage(
@@ -4006,7 +4031,7 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             int indexTotalNumberOfFiles = 0;
             long indexIncrementalSize = 0;
             long indexTotalFileSize = 0;
-            final BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> filesToSnapshot = new LinkedBlockingQueue<>();
+            final BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> filesToSnapshot = new PriorityBlockingQueue<>(11, LARGEST_FILE_FIRST);
             if (store.indexSettings().isRemoteSnapshot()) {
                 // If the source of the data is another remote snapshot (i.e. searchable snapshot) then no need to snapshot the shard
                 indexCommitPointFiles = List.of();
@@ -4248,11 +4273,12 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
                         listener.onResponse(null);
                     } else {
                         // Start as many workers as fit into the snapshot pool at once at the most
-                        final int workers = Math.min(
-                            threadPool.info(ThreadPool.Names.SNAPSHOT).getMax(),
-                            snapshotFiles.indexFiles().size()
+                        final int workers = Math.min(threadPool.info(ThreadPool.Names.SNAPSHOT).getMax(), filesToRecover.size());
+                        final BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> files = new PriorityBlockingQueue<>(
+                            filesToRecover.size(),
+                            LARGEST_FILE_FIRST
                         );
-                        final BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> files = new LinkedBlockingQueue<>(filesToRecover);
+                        files.addAll(filesToRecover);
                         final ActionListener<Void> allFilesListener = fileQueueListener(
                             files,
                             workers,
@@ -4350,6 +4376,14 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }));
     }
 
+    /**
+     * Order in which shard files are uploaded and restored: the largest files go first so that a large file picked up last
+     * does not leave all but one worker idle and determine how long the whole shard takes.
+     */
+    private static final Comparator<BlobStoreIndexShardSnapshot.FileInfo> LARGEST_FILE_FIRST = Comparator.comparingLong(
+        BlobStoreIndexShardSnapshot.FileInfo::length
+    ).reversed();
+
     private static ActionListener<Void> fileQueueListener(
         BlockingQueue<BlobStoreIndexShardSnapshot.FileInfo> files,
         int workers,
@@ -1387,6 +1387,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 concurrentSearchDeciderFactories,
                 isStreamSearch
             );
+            searchContext.getQueryShardContext().setDecodedBitmapCache(indicesService.getDecodedBitmapCache());
             // we clone the query shard context here just for rewriting otherwise we
             // might end up with incorrect state since we are using now() or script services
             // during rewrite and normalized / evaluate templates etc.
@@ -1771,6 +1772,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                 .flatMap(p -> p.getQueryProfileMetrics(context, query).stream())
                 .toList();
             Profilers profilers = new Profilers(context.searcher(), context.shouldUseConcurrentSearch(), pluginProfileMetricsSupplier);
+            profilers.getCurrentQueryProfiler().setQueryRewrites(queryShardContext.getQueryRewrites());
             context.setProfilers(profilers);
         }
 
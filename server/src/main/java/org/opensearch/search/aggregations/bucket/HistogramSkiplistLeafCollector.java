@@ -14,7 +14,6 @@ import org.apache.lucene.search.DocIdStream;
 import org.apache.lucene.search.Scorable;
 import org.opensearch.common.Rounding;
 import org.opensearch.search.aggregations.Aggregator;
-import org.opensearch.search.aggregations.AggregatorBase;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.bucket.histogram.LongBounds;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
@@ -26,7 +25,8 @@ import java.util.function.Supplier;
 /**
  * Histogram collection logic using skip list.
  *
- * Currently, it can only handle one owningBucketOrd at a time.
+ * The rounded value shared by a range of docs does not depend on the owning bucket, so when the parent collects
+ * into several owning buckets only the bucket index of that range is looked up again.
  *
  * @opensearch.internal
  */
@@ -58,7 +58,18 @@ public class HistogramSkiplistLeafCollector extends LeafBucketCollector {
     private boolean upToSameBucket;
 
     /**
-     * Index in bucketOrds for docs up to {@link #upToInclusive}.
+     * Rounded value of all docs up to {@link #upToInclusive}.
+     */
+    private long upToRounded;
+
+    /**
+     * Owning bucket {@link #upToBucketIndex} was resolved for.
+     */
+    private long upToOwningBucketOrd;
+
+    /**
+     * Index in bucketOrds for docs up to {@link #upToInclusive}, or {@code -1} if it was not resolved yet for
+     * {@link #upToOwningBucketOrd}.
      */
     private long upToBucketIndex;
 
@@ -126,6 +137,7 @@ public class HistogramSkiplistLeafCollector extends LeafBucketCollector {
 
         // Get current rounding from supplier
         Rounding.Prepared currentRounding = preparedRoundingSupplier.apply(owningBucketOrd);
+        lastPreparedRounding = currentRounding;
 
         // Now find the highest level where all docs map to the same bucket.
         for (int level = 0; level < skipper.numLevels(); ++level) {
@@ -137,9 +149,12 @@ public class HistogramSkiplistLeafCollector extends LeafBucketCollector {
                 // All docs at this level have a value, and all values map to the same bucket.
                 upToInclusive = skipper.maxDocID(level);
                 upToSameBucket = true;
-                upToBucketIndex = bucketOrdsSupplier.get().add(owningBucketOrd, maxBucket);
-                if (upToBucketIndex < 0) {
-                    upToBucketIndex = -1 - upToBucketIndex;
+                upToRounded = maxBucket;
+                if (resolveUpToBucketIndex(owningBucketOrd) == false) {
+                    // The new bucket increased the rounding, none of the docs of the range were collected yet so
+                    // compute the range again with the new rounding.
+                    advanceSkipper(doc, owningBucketOrd);
+                    return;
                 }
             } else {
                 break;
@@ -147,18 +162,53 @@ public class HistogramSkiplistLeafCollector extends LeafBucketCollector {
         }
     }
 
-    @Override
-    public void collect(int doc, long owningBucketOrd) throws IOException {
+    /**
+     * Resolves the bucket index of {@link #upToRounded} for {@code owningBucketOrd}. Returns {@code false} if adding the
+     * bucket increased the rounding, in which case the range has to be computed again since the bucket index may have
+     * been merged away.
+     */
+    private boolean resolveUpToBucketIndex(long owningBucketOrd) {
+        upToOwningBucketOrd = owningBucketOrd;
+        upToBucketIndex = bucketOrdsSupplier.get().add(owningBucketOrd, upToRounded);
+        if (upToBucketIndex < 0) {
+            upToBucketIndex = -1 - upToBucketIndex;
+            return true;
+        }
+        increaseRoundingIfNeeded.accept(owningBucketOrd, upToRounded);
+        return preparedRoundingSupplier.apply(owningBucketOrd) == lastPreparedRounding;
+    }
+
+    /**
+     * Invalidates the cached range if the rounding of {@code owningBucketOrd} changed. If the range was resolved for
+     * another owning bucket, its bucket index is only resolved again once a doc of the range is collected, so that no
+     * empty bucket is added for an owning bucket that has no docs in the range.
+     */
+    private void prepareForOwningBucket(long owningBucketOrd) {
         Rounding.Prepared currentRounding = preparedRoundingSupplier.apply(owningBucketOrd);
 
         // Check if rounding changed (using reference equality)
         // AutoDateHistogramAggregator creates a new Rounding.Prepared instance when rounding changes
         if (currentRounding != lastPreparedRounding) {
-            upToInclusive = -1;  // Invalidate
-            upToSameBucket = false;
-            lastPreparedRounding = currentRounding;
+            invalidate(currentRounding);
+        } else if (owningBucketOrd != upToOwningBucketOrd) {
+            upToOwningBucketOrd = owningBucketOrd;
+            upToBucketIndex = -1;
         }
+    }
 
+    private void invalidate(Rounding.Prepared currentRounding) {
+        upToInclusive = -1;
+        upToSameBucket = false;
+        lastPreparedRounding = currentRounding;
+    }
+
+    @Override
+    public void collect(int doc, long owningBucketOrd) throws IOException {
+        prepareForOwningBucket(owningBucketOrd);
+
+        if (doc <= upToInclusive && upToSameBucket && upToBucketIndex == -1 && resolveUpToBucketIndex(owningBucketOrd) == false) {
+            invalidate(preparedRoundingSupplier.apply(owningBucketOrd));
+        }
         if (doc > upToInclusive) {
             advanceSkipper(doc, owningBucketOrd);
         }
@@ -168,7 +218,7 @@ public class HistogramSkiplistLeafCollector extends LeafBucketCollector {
             sub.collect(doc, upToBucketIndex);
         } else if (values.advanceExact(doc)) {
             final long value = values.longValue();
-            long rounded = currentRounding.round(value);
+            long rounded = lastPreparedRounding.round(value);
             long bucketIndex = bucketOrdsSupplier.get().add(owningBucketOrd, rounded);
             if (bucketIndex < 0) {
                 bucketIndex = -1 - bucketIndex;
@@ -188,13 +238,14 @@ public class HistogramSkiplistLeafCollector extends LeafBucketCollector {
 
     @Override
     public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
+        prepareForOwningBucket(owningBucketOrd);
         for (;;) {
             int upToExclusive = upToInclusive + 1;
             if (upToExclusive < 0) { // overflow
                 upToExclusive = Integer.MAX_VALUE;
             }
 
-            if (upToSameBucket) {
+            if (upToSameBucket && upToBucketIndex != -1) {
                 if (isSubNoOp) {
                     // stream.count maybe faster when we don't need to handle sub-aggs
                     long count = stream.count(upToExclusive);
@@ -208,6 +259,7 @@ public class HistogramSkiplistLeafCollector extends LeafBucketCollector {
                     aggregator.incrementBucketDocCount(upToBucketIndex, count[0]);
                 }
             } else {
+                // also resolves the bucket index of the range for this owning bucket on its first doc
                 stream.forEach(upToExclusive, doc -> collect(doc, owningBucketOrd));
             }
 
@@ -229,19 +281,14 @@ public class HistogramSkiplistLeafCollector extends LeafBucketCollector {
     }
 
     /**
-     * Skiplist is based as top level agg (null parent) or parent that will execute in sorted order
-     *
+     * Skiplist can be used on single-valued fields with a skip index and without hard bounds. The skipper and the doc
+     * values can only move forward, so the parent must collect the docs of a segment in non-decreasing doc id order,
+     * which is the case when collecting a leaf or replaying deferred docs. A doc may be collected into several owning
+     * buckets.
      */
     public static boolean canUseSkiplist(LongBounds hardBounds, Aggregator parent, DocValuesSkipper skipper, NumericDocValues singleton) {
         if (skipper == null || singleton == null) return false;
         // TODO: add hard bounds support
-        if (hardBounds != null) return false;
-
-        if (parent == null) return true;
-
-        if (parent instanceof AggregatorBase base) {
-            return base.getLeafCollectorMode() == AggregatorBase.LeafCollectionMode.FILTER_REWRITE;
-        }
-        return false;
+        return hardBounds == null;
     }
 }
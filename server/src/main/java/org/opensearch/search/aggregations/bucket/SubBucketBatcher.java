@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket;
+
+import org.apache.lucene.search.CheckedIntConsumer;
+import org.apache.lucene.search.DocIdStream;
+import org.opensearch.search.aggregations.LeafBucketCollector;
+
+import java.io.IOException;
+
+/**
+ * Sub-collector used by bucket aggregators while they consume a {@link DocIdStream}. Docs collected into the same
+ * bucket one after the other are buffered and forwarded to the real sub-collector as a single
+ * {@link LeafBucketCollector#collect(DocIdStream, long)} call, so sub-aggregations such as {@code avg} get to run
+ * their batched implementation instead of one virtual call per doc.
+ * <p>
+ * Only runs of consecutive docs are batched: a sub-collector may read doc values that can only advance, so docs must
+ * reach it in the same order they were collected. Callers must call {@link #flush()} once the stream is consumed.
+ *
+ * @opensearch.internal
+ */
+public final class SubBucketBatcher extends LeafBucketCollector {
+
+    private static final int BATCH_SIZE = 512;
+
+    private final LeafBucketCollector sub;
+    private final int[] docs;
+    private final BufferedDocIdStream stream = new BufferedDocIdStream();
+    private int size;
+    private long bucket;
+
+    /**
+     * Returns a collector that batches docs for {@code sub}, or {@code sub} itself if it does not collect anything.
+     */
+    public static LeafBucketCollector wrap(LeafBucketCollector sub) {
+        return sub == NO_OP_COLLECTOR ? sub : new SubBucketBatcher(sub);
+    }
+
+    /**
+     * Forwards any buffered docs if {@code collector} was returned by {@link #wrap}.
+     */
+    public static void flush(LeafBucketCollector collector) throws IOException {
+        if (collector instanceof SubBucketBatcher batcher) {
+            batcher.flush();
+        }
+    }
+
+    private SubBucketBatcher(LeafBucketCollector sub) {
+        this.sub = sub;
+        this.docs = new int[BATCH_SIZE];
+    }
+
+    @Override
+    public void collect(int doc, long bucket) throws IOException {
+        if (size > 0 && (bucket != this.bucket || size == docs.length)) {
+            flush();
+        }
+        this.bucket = bucket;
+        docs[size++] = doc;
+    }
+
+    /**
+     * Forwards the buffered run of docs to the sub-collector.
+     */
+    public void flush() throws IOException {
+        if (size == 1) {
+            sub.collect(docs[0], bucket);
+        } else if (size > 1) {
+            stream.reset();
+            sub.collect(stream, bucket);
+        }
+        size = 0;
+    }
+
+    /**
+     * Replays the buffered run of docs.
+     */
+    private final class BufferedDocIdStream extends DocIdStream {
+
+        private int pos;
+
+        void reset() {
+            pos = 0;
+        }
+
+        @Override
+        public void forEach(int upTo, CheckedIntConsumer<IOException> consumer) throws IOException {
+            while (pos < size && docs[pos] < upTo) {
+                consumer.accept(docs[pos++]);
+            }
+        }
+
+        @Override
+        public int count(int upTo) {
+            int start = pos;
+            while (pos < size && docs[pos] < upTo) {
+                pos++;
+            }
+            return pos - start;
+        }
+
+        @Override
+        public boolean mayHaveRemaining() {
+            return pos < size;
+        }
+
+        @Override
+        public int intoArray(int upTo, int[] array) {
+            int count = 0;
+            while (count < array.length && pos < size && docs[pos] < upTo) {
+                array[count++] = docs[pos++];
+            }
+            return count;
+        }
+    }
+}
@@ -44,6 +44,7 @@ import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
 import org.opensearch.search.aggregations.bucket.SingleBucketAggregator;
+import org.opensearch.search.aggregations.bucket.SubBucketBatcher;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
@@ -76,6 +77,7 @@ public class FilterAggregator extends BucketsAggregator implements SingleBucketA
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, final LeafBucketCollector sub) throws IOException {
         // no need to provide deleted docs to the filter
         final Bits bits = Lucene.asSequentialAccessBits(ctx.reader().maxDoc(), filter.get().scorerSupplier(ctx));
+        final LeafBucketCollector batchedSub = SubBucketBatcher.wrap(sub);
         return new LeafBucketCollectorBase(sub, null) {
             @Override
             public void collect(int doc, long bucket) throws IOException {
@@ -86,7 +88,12 @@ public class FilterAggregator extends BucketsAggregator implements SingleBucketA
 
             @Override
             public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
-                super.collect(stream, owningBucketOrd);
+                stream.forEach(doc -> {
+                    if (bits.get(doc)) {
+                        collectBucket(batchedSub, doc, owningBucketOrd);
+                    }
+                });
+                SubBucketBatcher.flush(batchedSub);
             }
 
             @Override
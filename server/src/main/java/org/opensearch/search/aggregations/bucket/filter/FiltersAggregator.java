@@ -52,6 +52,7 @@ import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
+import org.opensearch.search.aggregations.bucket.SubBucketBatcher;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
@@ -178,26 +179,32 @@ public class FiltersAggregator extends BucketsAggregator {
         for (int i = 0; i < filters.length; ++i) {
             bits[i] = Lucene.asSequentialAccessBits(ctx.reader().maxDoc(), filters[i].scorerSupplier(ctx));
         }
+        final LeafBucketCollector batchedSub = SubBucketBatcher.wrap(sub);
         return new LeafBucketCollectorBase(sub, null) {
             @Override
             public void collect(int doc, long bucket) throws IOException {
+                collect(sub, doc, bucket);
+            }
+
+            @Override
+            public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
+                stream.forEach(doc -> collect(batchedSub, doc, owningBucketOrd));
+                SubBucketBatcher.flush(batchedSub);
+            }
+
+            private void collect(LeafBucketCollector collector, int doc, long bucket) throws IOException {
                 boolean matched = false;
                 for (int i = 0; i < bits.length; i++) {
                     if (bits[i].get(doc)) {
-                        collectBucket(sub, doc, bucketOrd(bucket, i));
+                        collectBucket(collector, doc, bucketOrd(bucket, i));
                         matched = true;
                     }
                 }
                 if (showOtherBucket && !matched) {
-                    collectBucket(sub, doc, bucketOrd(bucket, bits.length));
+                    collectBucket(collector, doc, bucketOrd(bucket, bits.length));
                 }
             }
 
-            @Override
-            public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
-                super.collect(stream, owningBucketOrd);
-            }
-
             @Override
             public void collectRange(int min, int max) throws IOException {
                 super.collectRange(min, max);
@@ -694,13 +694,9 @@ abstract class AutoDateHistogramAggregator extends DeferableBucketAggregator {
             final NumericDocValues singleton = DocValues.unwrapSingleton(values);
             if (HistogramSkiplistLeafCollector.canUseSkiplist(null, parent, skipper, singleton)) {
                 /**
-                 * HistogramSkiplistLeafCollector in its current state can only handle one owningBucketOrd at a time.
-                 * When parent is null, i.e. then ForSingle class will get used. ForMany is used when auto date is sub agg.
-                 * In the special case where in FilterRewrite (SubAggRangeCollector) logic, we can use Skiplist because we
-                 * will one range (and thus owningBucketOrd) at time.
-                 *
-                 * In the future we can enhance HistogramSkiplistLeafCollector to handle multiple owningBucketOrd,
-                 * similar to FromMany.
+                 * FromMany is used when auto date is a sub agg, so docs may be collected into several owningBucketOrds.
+                 * HistogramSkiplistLeafCollector keeps the skip range when the owningBucketOrd changes and only drops it
+                 * when the rounding of the new owningBucketOrd is a different one.
                  */
                 skiplistCollectorCount++;
 
@@ -42,6 +42,7 @@ import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
+import org.opensearch.search.aggregations.bucket.SubBucketBatcher;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
@@ -111,9 +112,20 @@ public class NumericHistogramAggregator extends AbstractHistogramAggregator {
         }
 
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
+        final LeafBucketCollector batchedSub = SubBucketBatcher.wrap(sub);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
             public void collect(int doc, long owningBucketOrd) throws IOException {
+                collect(sub, doc, owningBucketOrd);
+            }
+
+            @Override
+            public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
+                stream.forEach(doc -> collect(batchedSub, doc, owningBucketOrd));
+                SubBucketBatcher.flush(batchedSub);
+            }
+
+            private void collect(LeafBucketCollector collector, int doc, long owningBucketOrd) throws IOException {
                 if (values.advanceExact(doc)) {
                     final int valuesCount = values.docValueCount();
 
@@ -129,9 +141,9 @@ public class NumericHistogramAggregator extends AbstractHistogramAggregator {
                             long bucketOrd = bucketOrds.add(owningBucketOrd, Double.doubleToLongBits(key));
                             if (bucketOrd < 0) { // already seen
                                 bucketOrd = -1 - bucketOrd;
-                                collectExistingBucket(sub, doc, bucketOrd);
+                                collectExistingBucket(collector, doc, bucketOrd);
                             } else {
-                                collectBucket(sub, doc, bucketOrd);
+                                collectBucket(collector, doc, bucketOrd);
                             }
                         }
                         previousKey = key;
@@ -139,11 +151,6 @@ public class NumericHistogramAggregator extends AbstractHistogramAggregator {
                 }
             }
 
-            @Override
-            public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
-                super.collect(stream, owningBucketOrd);
-            }
-
             @Override
             public void collectRange(int min, int max) throws IOException {
                 super.collectRange(min, max);
@@ -65,6 +65,7 @@ import org.opensearch.search.aggregations.NonCollectingAggregator;
 import org.opensearch.search.aggregations.StarTreeBucketCollector;
 import org.opensearch.search.aggregations.StarTreePreComputeCollector;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
+import org.opensearch.search.aggregations.bucket.SubBucketBatcher;
 import org.opensearch.search.aggregations.bucket.filterrewrite.FilterRewriteOptimizationContext;
 import org.opensearch.search.aggregations.bucket.filterrewrite.RangeAggregatorBridge;
 import org.opensearch.search.aggregations.support.ValuesSource;
@@ -347,21 +348,17 @@ public class RangeAggregator extends BucketsAggregator implements StarTreePreCom
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, final LeafBucketCollector sub) throws IOException {
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
+        final LeafBucketCollector batchedSub = SubBucketBatcher.wrap(sub);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
             public void collect(int doc, long bucket) throws IOException {
-                if (values.advanceExact(doc)) {
-                    final int valuesCount = values.docValueCount();
-                    for (int i = 0, lo = 0; i < valuesCount; ++i) {
-                        final double value = values.nextValue();
-                        lo = collect(doc, value, bucket, lo);
-                    }
-                }
+                collect(sub, doc, bucket);
             }
 
             @Override
             public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
-                super.collect(stream, owningBucketOrd);
+                stream.forEach(doc -> collect(batchedSub, doc, owningBucketOrd));
+                SubBucketBatcher.flush(batchedSub);
             }
 
             @Override
@@ -369,11 +366,22 @@ public class RangeAggregator extends BucketsAggregator implements StarTreePreCom
                 super.collectRange(min, max);
             }
 
-            private int collect(int doc, double value, long owningBucketOrdinal, int lowBound) throws IOException {
+            private void collect(LeafBucketCollector collector, int doc, long bucket) throws IOException {
+                if (values.advanceExact(doc)) {
+                    final int valuesCount = values.docValueCount();
+                    for (int i = 0, lo = 0; i < valuesCount; ++i) {
+                        final double value = values.nextValue();
+                        lo = collect(collector, doc, value, bucket, lo);
+                    }
+                }
+            }
+
+            private int collect(LeafBucketCollector collector, int doc, double value, long owningBucketOrdinal, int lowBound)
+                throws IOException {
                 MatchedRange range = new MatchedRange(ranges, lowBound, value, maxTo);
                 for (int i = range.startLo; i <= range.endHi; ++i) {
                     if (ranges[i].matches(value)) {
-                        collectBucket(sub, doc, subBucketOrdinal(owningBucketOrdinal, i));
+                        collectBucket(collector, doc, subBucketOrdinal(owningBucketOrdinal, i));
                     }
                 }
                 return range.endHi + 1;
@@ -72,6 +72,7 @@ import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.StarTreeBucketCollector;
 import org.opensearch.search.aggregations.StarTreePreComputeCollector;
 import org.opensearch.search.aggregations.bucket.LocalBucketCountThresholds;
+import org.opensearch.search.aggregations.bucket.SubBucketBatcher;
 import org.opensearch.search.aggregations.bucket.terms.SignificanceLookup.BackgroundFrequencyForBytes;
 import org.opensearch.search.aggregations.bucket.terms.heuristic.SignificanceHeuristic;
 import org.opensearch.search.aggregations.support.ValuesSource;
@@ -256,6 +257,7 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         SortedSetDocValues globalOrds = this.getGlobalOrds(ctx);
         collectionStrategy.globalOrdsReady(globalOrds);
         SortedDocValues singleValues = DocValues.unwrapSingleton(globalOrds);
+        LeafBucketCollector batchedSub = SubBucketBatcher.wrap(sub);
         if (singleValues != null) {
             segmentsWithSingleValuedOrds++;
             if (acceptedGlobalOrdinals == ALWAYS_TRUE) {
@@ -266,46 +268,56 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
                 return resultStrategy.wrapCollector(new LeafBucketCollectorBase(sub, globalOrds) {
                     @Override
                     public void collect(int doc, long owningBucketOrd) throws IOException {
-                        if (false == singleValues.advanceExact(doc)) {
-                            return;
-                        }
-                        int globalOrd = singleValues.ordValue();
-                        collectionStrategy.collectGlobalOrd(owningBucketOrd, doc, globalOrd, sub);
+                        collect(sub, doc, owningBucketOrd);
                     }
 
                     @Override
                     public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
-                        super.collect(stream, owningBucketOrd);
+                        stream.forEach(doc -> collect(batchedSub, doc, owningBucketOrd));
+                        SubBucketBatcher.flush(batchedSub);
                     }
 
                     @Override
                     public void collectRange(int min, int max) throws IOException {
                         super.collectRange(min, max);
                     }
+
+                    private void collect(LeafBucketCollector collector, int doc, long owningBucketOrd) throws IOException {
+                        if (false == singleValues.advanceExact(doc)) {
+                            return;
+                        }
+                        int globalOrd = singleValues.ordValue();
+                        collectionStrategy.collectGlobalOrd(owningBucketOrd, doc, globalOrd, collector);
+                    }
                 });
             }
             return resultStrategy.wrapCollector(new LeafBucketCollectorBase(sub, globalOrds) {
                 @Override
                 public void collect(int doc, long owningBucketOrd) throws IOException {
-                    if (false == singleValues.advanceExact(doc)) {
-                        return;
-                    }
-                    int globalOrd = singleValues.ordValue();
-                    if (false == acceptedGlobalOrdinals.test(globalOrd)) {
-                        return;
-                    }
-                    collectionStrategy.collectGlobalOrd(owningBucketOrd, doc, globalOrd, sub);
+                    collect(sub, doc, owningBucketOrd);
                 }
 
                 @Override
                 public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
-                    super.collect(stream, owningBucketOrd);
+                    stream.forEach(doc -> collect(batchedSub, doc, owningBucketOrd));
+                    SubBucketBatcher.flush(batchedSub);
                 }
 
                 @Override
                 public void collectRange(int min, int max) throws IOException {
                     super.collectRange(min, max);
                 }
+
+                private void collect(LeafBucketCollector collector, int doc, long owningBucketOrd) throws IOException {
+                    if (false == singleValues.advanceExact(doc)) {
+                        return;
+                    }
+                    int globalOrd = singleValues.ordValue();
+                    if (false == acceptedGlobalOrdinals.test(globalOrd)) {
+                        return;
+                    }
+                    collectionStrategy.collectGlobalOrd(owningBucketOrd, doc, globalOrd, collector);
+                }
             });
         }
         segmentsWithMultiValuedOrds++;
@@ -317,30 +329,50 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             return resultStrategy.wrapCollector(new LeafBucketCollectorBase(sub, globalOrds) {
                 @Override
                 public void collect(int doc, long owningBucketOrd) throws IOException {
-                    if (false == globalOrds.advanceExact(doc)) {
-                        return;
-                    }
-                    int count = globalOrds.docValueCount();
-                    long globalOrd;
-                    while ((count-- > 0) && (globalOrd = globalOrds.nextOrd()) != SortedSetDocValues.NO_MORE_DOCS) {
-                        collectionStrategy.collectGlobalOrd(owningBucketOrd, doc, globalOrd, sub);
-                    }
+                    collect(sub, doc, owningBucketOrd);
                 }
 
                 @Override
                 public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
-                    super.collect(stream, owningBucketOrd);
+                    stream.forEach(doc -> collect(batchedSub, doc, owningBucketOrd));
+                    SubBucketBatcher.flush(batchedSub);
                 }
 
                 @Override
                 public void collectRange(int min, int max) throws IOException {
                     super.collectRange(min, max);
                 }
+
+                private void collect(LeafBucketCollector collector, int doc, long owningBucketOrd) throws IOException {
+                    if (false == globalOrds.advanceExact(doc)) {
+                        return;
+                    }
+                    int count = globalOrds.docValueCount();
+                    long globalOrd;
+                    while ((count-- > 0) && (globalOrd = globalOrds.nextOrd()) != SortedSetDocValues.NO_MORE_DOCS) {
+                        collectionStrategy.collectGlobalOrd(owningBucketOrd, doc, globalOrd, collector);
+                    }
+                }
             });
         }
         return resultStrategy.wrapCollector(new LeafBucketCollectorBase(sub, globalOrds) {
             @Override
             public void collect(int doc, long owningBucketOrd) throws IOException {
+                collect(sub, doc, owningBucketOrd);
+            }
+
+            @Override
+            public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
+                stream.forEach(doc -> collect(batchedSub, doc, owningBucketOrd));
+                SubBucketBatcher.flush(batchedSub);
+            }
+
+            @Override
+            public void collectRange(int min, int max) throws IOException {
+                super.collectRange(min, max);
+            }
+
+            private void collect(LeafBucketCollector collector, int doc, long owningBucketOrd) throws IOException {
                 if (false == globalOrds.advanceExact(doc)) {
                     return;
                 }
@@ -350,19 +382,9 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
                     if (false == acceptedGlobalOrdinals.test(globalOrd)) {
                         continue;
                     }
-                    collectionStrategy.collectGlobalOrd(owningBucketOrd, doc, globalOrd, sub);
+                    collectionStrategy.collectGlobalOrd(owningBucketOrd, doc, globalOrd, collector);
                 }
             }
-
-            @Override
-            public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
-                super.collect(stream, owningBucketOrd);
-            }
-
-            @Override
-            public void collectRange(int min, int max) throws IOException {
-                super.collectRange(min, max);
-            }
         });
     }
 
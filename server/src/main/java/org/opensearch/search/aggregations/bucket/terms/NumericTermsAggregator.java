@@ -61,6 +61,7 @@ import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.StarTreeBucketCollector;
 import org.opensearch.search.aggregations.StarTreePreComputeCollector;
 import org.opensearch.search.aggregations.bucket.LocalBucketCountThresholds;
+import org.opensearch.search.aggregations.bucket.SubBucketBatcher;
 import org.opensearch.search.aggregations.bucket.terms.IncludeExclude.LongFilter;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds.BucketOrdsEnum;
 import org.opensearch.search.aggregations.bucket.terms.SignificanceLookup.BackgroundFrequencyForLong;
@@ -134,9 +135,20 @@ public class NumericTermsAggregator extends TermsAggregator implements StarTreeP
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
         SortedNumericDocValues values = resultStrategy.getValues(ctx);
+        LeafBucketCollector batchedSub = SubBucketBatcher.wrap(sub);
         return resultStrategy.wrapCollector(new LeafBucketCollectorBase(sub, values) {
             @Override
             public void collect(int doc, long owningBucketOrd) throws IOException {
+                collect(sub, doc, owningBucketOrd);
+            }
+
+            @Override
+            public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
+                stream.forEach(doc -> collect(batchedSub, doc, owningBucketOrd));
+                SubBucketBatcher.flush(batchedSub);
+            }
+
+            private void collect(LeafBucketCollector collector, int doc, long owningBucketOrd) throws IOException {
                 if (values.advanceExact(doc)) {
                     int valuesCount = values.docValueCount();
                     long previous = Long.MAX_VALUE;
@@ -147,9 +159,9 @@ public class NumericTermsAggregator extends TermsAggregator implements StarTreeP
                                 long bucketOrdinal = bucketOrds.add(owningBucketOrd, val);
                                 if (bucketOrdinal < 0) { // already seen
                                     bucketOrdinal = -1 - bucketOrdinal;
-                                    collectExistingBucket(sub, doc, bucketOrdinal);
+                                    collectExistingBucket(collector, doc, bucketOrdinal);
                                 } else {
-                                    collectBucket(sub, doc, bucketOrdinal);
+                                    collectBucket(collector, doc, bucketOrdinal);
                                 }
                             }
 
@@ -159,11 +171,6 @@ public class NumericTermsAggregator extends TermsAggregator implements StarTreeP
                 }
             }
 
-            @Override
-            public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
-                super.collect(stream, owningBucketOrd);
-            }
-
             @Override
             public void collectRange(int min, int max) throws IOException {
                 super.collectRange(min, max);
@@ -0,0 +1,294 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.approximate;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ConjunctionUtils;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.sort.FieldSortBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An approximate-able version of a conjunctive {@link BooleanQuery} whose hits are sorted on a point field. Instead of
+ * matching every doc of the clauses, it walks the BKD tree of the sort field in sort order and only keeps the docs that
+ * also match the other clauses, so that a filtered "latest N" search does not have to collect every matching doc.
+ * <p>
+ * The walk covers a window of points that grows until it contains {@code size} matching docs. If the clauses are so
+ * selective that the window would have to cover most of the segment, the segment is matched with the original query.
+ */
+public class ApproximateBooleanQuery extends ApproximateQuery {
+
+    /**
+     * Factor the window of walked points grows by when it does not contain enough matching docs.
+     */
+    static final int WINDOW_GROWTH_FACTOR = 4;
+
+    private final BooleanQuery booleanQuery;
+    private final Query fallbackQuery;
+    private ApproximatePointRangeQuery sortRange;
+    private Query filterQuery;
+
+    public ApproximateBooleanQuery(BooleanQuery booleanQuery) {
+        this(booleanQuery, booleanQuery, null, null);
+    }
+
+    private ApproximateBooleanQuery(
+        BooleanQuery booleanQuery,
+        Query fallbackQuery,
+        ApproximatePointRangeQuery sortRange,
+        Query filterQuery
+    ) {
+        this.booleanQuery = booleanQuery;
+        this.fallbackQuery = fallbackQuery;
+        this.sortRange = sortRange;
+        this.filterQuery = filterQuery;
+    }
+
+    public BooleanQuery getBooleanQuery() {
+        return booleanQuery;
+    }
+
+    /**
+     * Wraps the main query of a search in its approximation if it can be approximated in the given context. Otherwise the
+     * query is returned as is, so that it is rewritten and profiled like any other boolean query.
+     */
+    public static Query approximateIfPossible(BooleanQuery booleanQuery, SearchContext context) {
+        ApproximateBooleanQuery approximation = new ApproximateBooleanQuery(booleanQuery);
+        if (approximation.canApproximate(context) == false) {
+            return booleanQuery;
+        }
+        return new ApproximateScoreQuery(booleanQuery, approximation);
+    }
+
+    @Override
+    protected boolean canApproximate(SearchContext context) {
+        sortRange = null;
+        filterQuery = null;
+        if (context == null || context.trackScores()) {
+            return false;
+        }
+        if (context.request() == null || context.request().source() == null || context.innerHits().getInnerHits().isEmpty() == false) {
+            return false;
+        }
+        FieldSortBuilder primarySortField = FieldSortBuilder.getPrimaryFieldSortOrNull(context.request().source());
+        if (primarySortField == null) {
+            return false;
+        }
+        String sortField = primarySortField.fieldName();
+
+        // a required range on the sort field is applied by the walk itself, every other clause is checked as a filter
+        ApproximatePointRangeQuery range = null;
+        BooleanQuery.Builder filters = new BooleanQuery.Builder();
+        boolean hasRequiredFilter = false;
+        for (BooleanClause clause : booleanQuery.clauses()) {
+            switch (clause.occur()) {
+                case SHOULD:
+                    return false;
+                case MUST_NOT:
+                    filters.add(clause.query(), BooleanClause.Occur.MUST_NOT);
+                    break;
+                default:
+                    if (range == null
+                        && clause.query() instanceof ApproximateScoreQuery approximateScoreQuery
+                        && approximateScoreQuery.getApproximationQuery() instanceof ApproximatePointRangeQuery pointRange
+                        && pointRange.pointRangeQuery.getField().equals(sortField)) {
+                        range = pointRange;
+                    } else {
+                        filters.add(clause.query(), BooleanClause.Occur.FILTER);
+                        hasRequiredFilter = true;
+                    }
+            }
+        }
+        if (range == null && hasRequiredFilter == false) {
+            // a pure negative boolean query does not match anything
+            return false;
+        }
+        if (range == null) {
+            MappedFieldType mappedFieldType = context.getQueryShardContext().fieldMapper(sortField);
+            if (mappedFieldType == null) {
+                return false;
+            }
+            Query rangeQuery = mappedFieldType.rangeQuery(null, null, false, false, null, null, null, context.getQueryShardContext());
+            if (rangeQuery instanceof ApproximateScoreQuery approximateScoreQuery
+                && approximateScoreQuery.getApproximationQuery() instanceof ApproximatePointRangeQuery pointRange) {
+                range = pointRange;
+            } else {
+                return false;
+            }
+        }
+        // checks the sort, search_after, track_total_hits and terminate_after and computes the number of docs to find
+        if (range.canApproximate(context) == false) {
+            return false;
+        }
+
+        BooleanQuery filter = filters.build();
+        if (filter.clauses().isEmpty() == false) {
+            if (hasRequiredFilter == false) {
+                // only negative clauses are left next to the range on the sort field, which on their own match nothing
+                filter = filters.add(new MatchAllDocsQuery(), BooleanClause.Occur.FILTER).build();
+            }
+            filterQuery = filter;
+        }
+        sortRange = range;
+        return true;
+    }
+
+    @Override
+    public Query rewrite(IndexSearcher indexSearcher) throws IOException {
+        if (sortRange == null) {
+            throw new IllegalStateException("rewrite called without setting context or query could not be approximated");
+        }
+        Query rewrittenFallback = rewriteFully(fallbackQuery, indexSearcher);
+        Query rewrittenFilter = filterQuery == null ? null : rewriteFully(filterQuery, indexSearcher);
+        if (rewrittenFallback == fallbackQuery && rewrittenFilter == filterQuery) {
+            return this;
+        }
+        return new ApproximateBooleanQuery(booleanQuery, rewrittenFallback, sortRange, rewrittenFilter);
+    }
+
+    private static Query rewriteFully(Query query, IndexSearcher indexSearcher) throws IOException {
+        for (Query rewritten = query.rewrite(indexSearcher); rewritten != query; rewritten = query.rewrite(indexSearcher)) {
+            query = rewritten;
+        }
+        return query;
+    }
+
+    @Override
+    public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+        if (sortRange == null) {
+            throw new IllegalStateException("createWeight called without setting context or query could not be approximated");
+        }
+        final Weight fallbackWeight = searcher.createWeight(fallbackQuery, scoreMode, boost);
+        final Weight filterWeight = filterQuery == null ? null : searcher.createWeight(filterQuery, ScoreMode.COMPLETE_NO_SCORES, 1f);
+        final int size = sortRange.getSize();
+
+        return new ConstantScoreWeight(this, boost) {
+
+            @Override
+            public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+                final ScorerSupplier fallback = fallbackWeight.scorerSupplier(context);
+                if (fallback == null) {
+                    return null;
+                }
+                final PointValues values = context.reader().getPointValues(sortRange.pointRangeQuery.getField());
+                if (values == null || (long) size * 2 > values.size()) {
+                    return fallback;
+                }
+                return new ScorerSupplier() {
+                    @Override
+                    public Scorer get(long leadCost) throws IOException {
+                        DocIdSetIterator matches = approximateMatches(context, values);
+                        if (matches == null) {
+                            return fallback.get(leadCost);
+                        }
+                        return new ConstantScoreScorer(score(), scoreMode, matches);
+                    }
+
+                    @Override
+                    public long cost() {
+                        return fallback.cost();
+                    }
+                };
+            }
+
+            /**
+             * Returns the docs of the smallest window holding {@code size} live matching docs, or {@code null} if that
+             * window would cover more than half of the points of the segment.
+             */
+            private DocIdSetIterator approximateMatches(LeafReaderContext context, PointValues values) throws IOException {
+                final Bits liveDocs = context.reader().getLiveDocs();
+                for (long window = size; window * 2 <= values.size(); window *= WINDOW_GROWTH_FACTOR) {
+                    ScorerSupplier walk = sortRange.withSize((int) window)
+                        .createWeight(searcher, ScoreMode.COMPLETE_NO_SCORES, 1f)
+                        .scorerSupplier(context);
+                    if (walk == null) {
+                        return null;
+                    }
+                    DocIdSetIterator iterator = walk.get(Long.MAX_VALUE).iterator();
+                    if (filterWeight != null) {
+                        ScorerSupplier filter = filterWeight.scorerSupplier(context);
+                        if (filter == null) {
+                            return DocIdSetIterator.empty();
+                        }
+                        iterator = ConjunctionUtils.intersectIterators(List.of(iterator, filter.get(iterator.cost()).iterator()));
+                    }
+                    FixedBitSet bits = new FixedBitSet(context.reader().maxDoc());
+                    int liveCount = 0;
+                    for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+                        bits.set(doc);
+                        if (liveDocs == null || liveDocs.get(doc)) {
+                            liveCount++;
+                        }
+                    }
+                    if (liveCount >= size) {
+                        return new BitSetIterator(bits, liveCount);
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public int count(LeafReaderContext context) throws IOException {
+                return fallbackWeight.count(context);
+            }
+
+            @Override
+            public boolean isCacheable(LeafReaderContext ctx) {
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public void visit(QueryVisitor visitor) {
+        booleanQuery.visit(visitor);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (sameClassAs(o)) {
+            ApproximateBooleanQuery other = (ApproximateBooleanQuery) o;
+            return booleanQuery.equals(other.booleanQuery)
+                && fallbackQuery.equals(other.fallbackQuery)
+                && Objects.equals(filterQuery, other.filterQuery);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * classHash() + booleanQuery.hashCode();
+    }
+
+    @Override
+    public String toString(String field) {
+        return "Approximate(" + booleanQuery.toString(field) + ")";
+    }
+}
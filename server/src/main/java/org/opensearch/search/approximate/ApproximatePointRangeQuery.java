@@ -104,6 +104,21 @@ public class ApproximatePointRangeQuery extends ApproximateQuery {
         this.sortOrder = sortOrder;
     }
 
+    /**
+     * Returns a copy of this query over the same range and sort order that stops after {@code size} points.
+     */
+    ApproximatePointRangeQuery withSize(int size) {
+        return new ApproximatePointRangeQuery(
+            pointRangeQuery.getField(),
+            pointRangeQuery.getLowerPoint(),
+            pointRangeQuery.getUpperPoint(),
+            pointRangeQuery.getNumDims(),
+            size,
+            sortOrder,
+            valueToString
+        );
+    }
+
     @Override
     public Query rewrite(IndexSearcher indexSearcher) throws IOException {
         return super.rewrite(indexSearcher);
@@ -38,6 +38,7 @@ import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.BulkScorer;
 import org.apache.lucene.search.CollectionStatistics;
 import org.apache.lucene.search.CollectionTerminatedException;
@@ -75,6 +76,7 @@ import org.opensearch.search.SearchHits;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.approximate.ApproximateBooleanQuery;
 import org.opensearch.search.approximate.ApproximateScoreQuery;
 import org.opensearch.search.dfs.AggregatedDfs;
 import org.opensearch.search.fetch.FetchSearchResult;
@@ -202,6 +204,10 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
 
     @Override
     public Query rewrite(Query original) throws IOException {
+        if (original instanceof BooleanQuery booleanQuery && searchContext != null && original == searchContext.query()) {
+            // only the main query can be approximated, it is left unwrapped if it can't
+            original = ApproximateBooleanQuery.approximateIfPossible(booleanQuery, searchContext);
+        }
         if (original instanceof ApproximateScoreQuery approximateScoreQuery) {
             approximateScoreQuery.setContext(searchContext);
         }
@@ -67,6 +67,7 @@ public final class SearchProfileShardResults implements Writeable, ToXContentFra
     private static final String ID_FIELD = "id";
     private static final String SHARDS_FIELD = "shards";
     public static final String PROFILE_FIELD = "profile";
+    public static final String QUERY_REWRITES_FIELD = "query_rewrites";
     public static final String INBOUND_NETWORK_FIELD = "inbound_network_time_in_millis";
     public static final String OUTBOUND_NETWORK_FIELD = "outbound_network_time_in_millis";
 
@@ -212,7 +213,7 @@ public final class SearchProfileShardResults implements Writeable, ToXContentFra
         List<QueryProfileShardResult> queryResults = new ArrayList<>(queryProfilers.size());
         for (QueryProfiler queryProfiler : queryProfilers) {
             QueryProfileShardResult result = new QueryProfileShardResult(
-                queryProfiler.getTree(),
+                withQueryRewrites(queryProfiler.getTree(), queryProfiler.getQueryRewrites()),
                 queryProfiler.getRewriteTime(),
                 queryProfiler.getCollector()
             );
@@ -229,6 +230,35 @@ public final class SearchProfileShardResults implements Writeable, ToXContentFra
         return new ProfileShardResult(queryResults, aggResults, fetchResult, networkTime);
     }
 
+    /**
+     * Adds the statistics-driven rewrites of the query to the debug information of the top level query, which is the
+     * only node they can be attached to since they were applied before the query was turned into a Lucene query.
+     */
+    private static List<ProfileResult> withQueryRewrites(List<ProfileResult> tree, List<String> queryRewrites) {
+        if (queryRewrites.isEmpty() || tree.isEmpty()) {
+            return tree;
+        }
+        ProfileResult root = tree.get(0);
+        Map<String, Object> debug = new HashMap<>(root.getDebugInfo());
+        debug.put(QUERY_REWRITES_FIELD, queryRewrites);
+        List<ProfileResult> results = new ArrayList<>(tree);
+        results.set(
+            0,
+            new ProfileResult(
+                root.getQueryName(),
+                root.getLuceneDescription(),
+                root.getTimeBreakdown(),
+                debug,
+                root.getTime(),
+                root.getProfiledChildren(),
+                root.getMaxSliceTime(),
+                root.getMinSliceTime(),
+                root.getAvgSliceTime()
+            )
+        );
+        return results;
+    }
+
     /**
      * Helper method to build ProfileShardResult containing only fetch profile data.
      * Used in multi-shard fetch phase where query profiling data is not available.
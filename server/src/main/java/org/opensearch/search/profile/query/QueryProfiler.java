@@ -62,6 +62,11 @@ public class QueryProfiler extends AbstractProfiler<ContextualProfileBreakdown,
      */
     private InternalProfileComponent collector;
 
+    /**
+     * The statistics-driven rewrites applied to the query before it was turned into a Lucene query
+     */
+    private List<String> queryRewrites = List.of();
+
     public QueryProfiler() {
         this(new InternalQueryProfileTree(query -> List.of()));
     }
@@ -78,6 +83,15 @@ public class QueryProfiler extends AbstractProfiler<ContextualProfileBreakdown,
         this.collector = Objects.requireNonNull(collector);
     }
 
+    /** Set the statistics-driven rewrites applied to the query before it was turned into a Lucene query. */
+    public void setQueryRewrites(List<String> queryRewrites) {
+        this.queryRewrites = List.copyOf(queryRewrites);
+    }
+
+    public List<String> getQueryRewrites() {
+        return queryRewrites;
+    }
+
     /**
      * Begin timing the rewrite phase of a request.  All rewrites are accumulated together into a
      * single metric
@@ -0,0 +1,164 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.hash.MurmurHash3;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+/**
+ * Node level cache of the bitmaps decoded for bitmap terms queries, owned by the
+ * {@link org.opensearch.indices.IndicesService}.
+ * <p>
+ * Filters built from large bitmaps are usually sent again and again with the same bitmap, and every shard of a request
+ * decodes its own copy. Decoded bitmaps are shared across shards and requests by a 128-bit hash of their serialized
+ * form. The serialized bytes are kept next to the decoded bitmap and compared on every hit, so a bitmap crafted to
+ * collide with another one is decoded on its own instead of using the cached bitmap. Cached bitmaps are used by
+ * concurrent searches, so they must only be read.
+ *
+ * @opensearch.internal
+ */
+public final class DecodedBitmapCache implements Closeable {
+
+    public static final Setting<ByteSizeValue> INDICES_BITMAP_CACHE_SIZE_SETTING = Setting.memorySizeSetting(
+        "indices.queries.bitmap_cache.size",
+        "1%",
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    private volatile Cache<Key, Entry> cache;
+
+    public DecodedBitmapCache(Settings settings) {
+        this.cache = buildCache(INDICES_BITMAP_CACHE_SIZE_SETTING.get(settings));
+    }
+
+    private record Key(boolean is64Bit, int length, long h1, long h2) {}
+
+    private record Entry(byte[] serialized, Object bitmap) {}
+
+    private static Cache<Key, Entry> buildCache(ByteSizeValue size) {
+        return CacheBuilder.<Key, Entry>builder().setMaximumWeight(size.getBytes()).weigher((key, entry) -> {
+            long bitmapBytes = entry.bitmap instanceof RoaringBitmap roaringBitmap
+                ? roaringBitmap.getLongSizeInBytes()
+                : ((Roaring64NavigableMap) entry.bitmap).getLongSizeInBytes();
+            return entry.serialized.length + bitmapBytes;
+        }).build();
+    }
+
+    /**
+     * Replaces the cache with an empty one of the given size.
+     */
+    public void setCacheSize(ByteSizeValue size) {
+        cache = buildCache(size);
+    }
+
+    /**
+     * Returns the bitmap serialized in {@code bytes} with {@link RoaringBitmap#serialize}.
+     */
+    public RoaringBitmap getOrDecode(BytesArray bytes) {
+        return (RoaringBitmap) getOrDecode(bytes.toBytesRef(), false);
+    }
+
+    /**
+     * Returns the bitmap serialized in {@code bytes} with {@link Roaring64NavigableMap#serializePortable}.
+     */
+    public Roaring64NavigableMap getOrDecode64(BytesArray bytes) {
+        return (Roaring64NavigableMap) getOrDecode(bytes.toBytesRef(), true);
+    }
+
+    /**
+     * Decodes the bitmap serialized in {@code bytes} with {@link RoaringBitmap#serialize}, without caching it.
+     */
+    public static RoaringBitmap decode(BytesArray bytes) {
+        return (RoaringBitmap) decode(bytes.toBytesRef(), false);
+    }
+
+    /**
+     * Decodes the bitmap serialized in {@code bytes} with {@link Roaring64NavigableMap#serializePortable}, without caching it.
+     */
+    public static Roaring64NavigableMap decode64(BytesArray bytes) {
+        return (Roaring64NavigableMap) decode(bytes.toBytesRef(), true);
+    }
+
+    private Object getOrDecode(BytesRef bytes, boolean is64Bit) {
+        MurmurHash3.Hash128 hash = MurmurHash3.hash128(bytes.bytes, bytes.offset, bytes.length, 0, new MurmurHash3.Hash128());
+        Key key = new Key(is64Bit, bytes.length, hash.h1, hash.h2);
+        Entry entry;
+        try {
+            entry = cache.computeIfAbsent(key, k -> new Entry(BytesRef.deepCopyOf(bytes).bytes, decodeOrThrow(bytes, is64Bit)));
+        } catch (ExecutionException e) {
+            throw new IllegalArgumentException(failureMessage(is64Bit), e.getCause());
+        }
+        if (Arrays.equals(entry.serialized, 0, entry.serialized.length, bytes.bytes, bytes.offset, bytes.offset + bytes.length)) {
+            return entry.bitmap;
+        }
+        // another bitmap with the same hash is cached
+        return decode(bytes, is64Bit);
+    }
+
+    private static Object decode(BytesRef bytes, boolean is64Bit) {
+        try {
+            return decodeOrThrow(bytes, is64Bit);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(failureMessage(is64Bit), e);
+        }
+    }
+
+    private static Object decodeOrThrow(BytesRef bytes, boolean is64Bit) throws Exception {
+        if (is64Bit) {
+            // cardinalities are cached lazily on reads, which is not safe once the bitmap is shared
+            Roaring64NavigableMap bitmap = new Roaring64NavigableMap(false, false);
+            bitmap.deserializePortable(new DataInputStream(new ByteArrayInputStream(bytes.bytes, bytes.offset, bytes.length)));
+            return bitmap;
+        }
+        RoaringBitmap bitmap = new RoaringBitmap();
+        bitmap.deserialize(ByteBuffer.wrap(bytes.bytes, bytes.offset, bytes.length));
+        return bitmap;
+    }
+
+    private static String failureMessage(boolean is64Bit) {
+        return is64Bit ? "Failed to deserialize the 64-bit bitmap." : "Failed to deserialize the bitmap.";
+    }
+
+    /**
+     * Returns the number of cached bitmaps.
+     */
+    public int count() {
+        return cache.count();
+    }
+
+    /**
+     * Returns the memory held by the cached bitmaps and their serialized form, in bytes.
+     */
+    public long sizeInBytes() {
+        return cache.weight();
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+    }
+}
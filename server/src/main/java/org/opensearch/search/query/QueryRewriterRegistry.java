@@ -16,6 +16,7 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.query.rewriters.BooleanFlatteningRewriter;
+import org.opensearch.search.query.rewriters.FieldStatisticsRewriter;
 import org.opensearch.search.query.rewriters.MatchAllRemovalRewriter;
 import org.opensearch.search.query.rewriters.MustNotToShouldRewriter;
 import org.opensearch.search.query.rewriters.MustToFilterRewriter;
@@ -57,6 +58,7 @@ public final class QueryRewriterRegistry {
         registerRewriter(MustNotToShouldRewriter.INSTANCE);
         registerRewriter(MatchAllRemovalRewriter.INSTANCE);
         registerRewriter(TermsMergingRewriter.INSTANCE);
+        registerRewriter(FieldStatisticsRewriter.INSTANCE);
     }
 
     /**
@@ -0,0 +1,275 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query.rewriters;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lucene.BytesRefs;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.index.mapper.FieldNamesFieldMapper;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.ConstantScoreQueryBuilder;
+import org.opensearch.index.query.ExistsQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.index.query.TermsQueryBuilder;
+import org.opensearch.search.query.QueryRewriter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rewrites queries using the field statistics of the shard they run on.
+ * <ul>
+ *   <li>A range on a numeric field that covers every indexed value of the shard is rewritten to an exists query,
+ *       which does not need to visit the points of the field.</li>
+ *   <li>A large terms query on a single-valued keyword field that holds few distinct terms is rewritten to the docs
+ *       that have a value but none of the other terms of the field, which looks up and unions far fewer postings.</li>
+ * </ul>
+ * Both rewrites keep the constant score of the original query. Every rewrite is recorded on the
+ * {@link QueryShardContext} so that the profile API can report it.
+ *
+ * @opensearch.internal
+ */
+public class FieldStatisticsRewriter implements QueryRewriter {
+
+    public static final FieldStatisticsRewriter INSTANCE = new FieldStatisticsRewriter();
+
+    /**
+     * Minimum number of values of a terms query for it to be rewritten to its complement.
+     */
+    static final int MIN_TERMS_FOR_COMPLEMENT = 16;
+
+    /**
+     * A terms query is only rewritten if its complement has at most this fraction of its values.
+     */
+    static final int COMPLEMENT_RATIO = 4;
+
+    private FieldStatisticsRewriter() {
+        // Singleton
+    }
+
+    @Override
+    public QueryBuilder rewrite(QueryBuilder query, QueryShardContext context) {
+        if (context == null) {
+            return query;
+        }
+        IndexReader reader = context.getIndexReader();
+        if (reader == null) {
+            // No reader, e.g. for percolator queries
+            return query;
+        }
+        return rewrite(query, context, ShardFieldStatistics.of(reader));
+    }
+
+    private QueryBuilder rewrite(QueryBuilder query, QueryShardContext context, ShardFieldStatistics statistics) {
+        if (query instanceof BoolQueryBuilder boolQuery) {
+            return rewriteBoolQuery(boolQuery, context, statistics);
+        } else if (query instanceof RangeQueryBuilder rangeQuery) {
+            return rewriteRangeQuery(rangeQuery, context, statistics);
+        } else if (query instanceof TermsQueryBuilder termsQuery) {
+            return rewriteTermsQuery(termsQuery, context, statistics);
+        }
+        return query;
+    }
+
+    private QueryBuilder rewriteBoolQuery(BoolQueryBuilder original, QueryShardContext context, ShardFieldStatistics statistics) {
+        List<QueryBuilder> must = rewriteClauses(original.must(), context, statistics);
+        List<QueryBuilder> filter = rewriteClauses(original.filter(), context, statistics);
+        List<QueryBuilder> should = rewriteClauses(original.should(), context, statistics);
+        List<QueryBuilder> mustNot = rewriteClauses(original.mustNot(), context, statistics);
+        if (must == original.must() && filter == original.filter() && should == original.should() && mustNot == original.mustNot()) {
+            return original;
+        }
+
+        BoolQueryBuilder rewritten = new BoolQueryBuilder();
+        rewritten.boost(original.boost());
+        rewritten.queryName(original.queryName());
+        rewritten.minimumShouldMatch(original.minimumShouldMatch());
+        rewritten.adjustPureNegative(original.adjustPureNegative());
+        must.forEach(rewritten::must);
+        filter.forEach(rewritten::filter);
+        should.forEach(rewritten::should);
+        mustNot.forEach(rewritten::mustNot);
+        return rewritten;
+    }
+
+    /**
+     * Returns the rewritten clauses, or the original list if none of them changed.
+     */
+    private List<QueryBuilder> rewriteClauses(List<QueryBuilder> clauses, QueryShardContext context, ShardFieldStatistics statistics) {
+        List<QueryBuilder> rewritten = null;
+        for (int i = 0; i < clauses.size(); i++) {
+            QueryBuilder clause = clauses.get(i);
+            QueryBuilder rewrittenClause = rewrite(clause, context, statistics);
+            if (rewrittenClause != clause && rewritten == null) {
+                rewritten = new ArrayList<>(clauses.subList(0, i));
+            }
+            if (rewritten != null) {
+                rewritten.add(rewrittenClause);
+            }
+        }
+        return rewritten == null ? clauses : rewritten;
+    }
+
+    private QueryBuilder rewriteRangeQuery(RangeQueryBuilder range, QueryShardContext context, ShardFieldStatistics statistics) {
+        if (range.from() == null && range.to() == null) {
+            // already turned into an exists query
+            return range;
+        }
+        if (range.format() != null || range.timeZone() != null || range.relation() != null) {
+            return range;
+        }
+        MappedFieldType fieldType = context.fieldMapper(range.fieldName());
+        if (fieldType instanceof NumberFieldMapper.NumberFieldType == false || fieldType.isSearchable() == false) {
+            return range;
+        }
+        if (canMatchExists(fieldType, context) == false) {
+            return range;
+        }
+        NumberFieldMapper.NumberType numberType = ((NumberFieldMapper.NumberFieldType) fieldType).numberType();
+        if (numberType == NumberFieldMapper.NumberType.HALF_FLOAT) {
+            // bounds are rounded to half floats, which can exclude the smallest or largest value
+            return range;
+        }
+        ShardFieldStatistics.PointRange pointRange = statistics.pointRange(fieldType.name());
+        if (pointRange == null) {
+            return range;
+        }
+
+        Number min = numberType.parsePoint(pointRange.min());
+        Number max = numberType.parsePoint(pointRange.max());
+        boolean coversMin;
+        boolean coversMax;
+        try {
+            coversMin = range.from() == null
+                || covers(toBigDecimal(numberType, range.from()), range.includeLower(), toBigDecimal(min), false);
+            coversMax = range.to() == null || covers(toBigDecimal(numberType, range.to()), range.includeUpper(), toBigDecimal(max), true);
+        } catch (IllegalArgumentException e) {
+            // infinite or NaN values, or bounds that are not plain numbers
+            return range;
+        }
+        if (coversMin == false || coversMax == false) {
+            return range;
+        }
+
+        context.addQueryRewrite(
+            name() + ": [range] on [" + range.fieldName() + "] covers all the values [" + min + "] to [" + max + "], rewritten to [exists]"
+        );
+        return new ExistsQueryBuilder(range.fieldName()).boost(range.boost()).queryName(range.queryName());
+    }
+
+    /**
+     * Returns whether an exists query on the field matches all the docs that have a value. Without doc values the exists
+     * query looks up the {@code _field_names} field, which matches nothing when it is disabled.
+     */
+    private static boolean canMatchExists(MappedFieldType fieldType, QueryShardContext context) {
+        if (fieldType.hasDocValues()) {
+            return true;
+        }
+        MappedFieldType fieldNamesFieldType = context.fieldMapper(FieldNamesFieldMapper.NAME);
+        return fieldNamesFieldType instanceof FieldNamesFieldMapper.FieldNamesFieldType fieldNames && fieldNames.isEnabled();
+    }
+
+    private static boolean covers(BigDecimal bound, boolean inclusive, BigDecimal value, boolean upper) {
+        int cmp = upper ? bound.compareTo(value) : value.compareTo(bound);
+        return inclusive ? cmp >= 0 : cmp > 0;
+    }
+
+    /**
+     * Returns the value a range query on the given type compares with the indexed values. Floating point types compare
+     * with the parsed bound, while integer types round the bound so that they match exactly the values that lie within it.
+     */
+    private static BigDecimal toBigDecimal(NumberFieldMapper.NumberType numberType, Object bound) {
+        if (numberType == NumberFieldMapper.NumberType.FLOAT || numberType == NumberFieldMapper.NumberType.DOUBLE) {
+            return toBigDecimal(numberType.parse(bound, false));
+        }
+        return new BigDecimal(BytesRefs.toString(bound));
+    }
+
+    private static BigDecimal toBigDecimal(Number value) {
+        if (value instanceof Double || value instanceof Float) {
+            return new BigDecimal(value.doubleValue());
+        }
+        return new BigDecimal(value.toString());
+    }
+
+    private QueryBuilder rewriteTermsQuery(TermsQueryBuilder terms, QueryShardContext context, ShardFieldStatistics statistics) {
+        if (terms.termsLookup() != null || terms.values() == null || terms.valueType() == TermsQueryBuilder.ValueType.BITMAP) {
+            return terms;
+        }
+        if (terms.values().size() < MIN_TERMS_FOR_COMPLEMENT) {
+            return terms;
+        }
+        MappedFieldType fieldType = context.fieldMapper(terms.fieldName());
+        if (fieldType instanceof KeywordFieldMapper.KeywordFieldType == false || fieldType.isSearchable() == false) {
+            return terms;
+        }
+        if (canMatchExists(fieldType, context) == false) {
+            return terms;
+        }
+        if (fieldType.getTextSearchInfo().getSearchAnalyzer() != Lucene.KEYWORD_ANALYZER) {
+            // with a normalizer the values of the query are not the indexed terms
+            return terms;
+        }
+        ShardFieldStatistics.FieldTerms fieldTerms = statistics.fieldTerms(fieldType.name());
+        if (fieldTerms == null || fieldTerms.singleValued() == false) {
+            // excluding the other terms of a multi-valued field would also exclude docs that hold one of the values
+            return terms;
+        }
+
+        Set<BytesRef> values = new HashSet<>();
+        for (Object value : terms.values()) {
+            values.add(BytesRefs.toBytesRef(value));
+        }
+        List<String> complement = new ArrayList<>();
+        for (BytesRef term : fieldTerms.terms()) {
+            if (values.contains(term) == false) {
+                complement.add(term.utf8ToString());
+                if (complement.size() * COMPLEMENT_RATIO > terms.values().size()) {
+                    return terms;
+                }
+            }
+        }
+
+        BoolQueryBuilder complementQuery = new BoolQueryBuilder().filter(new ExistsQueryBuilder(terms.fieldName()));
+        if (complement.isEmpty() == false) {
+            complementQuery.mustNot(new TermsQueryBuilder(terms.fieldName(), complement));
+        }
+        context.addQueryRewrite(
+            name()
+                + ": [terms] with ["
+                + terms.values().size()
+                + "] values on ["
+                + terms.fieldName()
+                + "] rewritten to [must_not] of the ["
+                + complement.size()
+                + "] other terms of the field"
+        );
+        return new ConstantScoreQueryBuilder(complementQuery).boost(terms.boost()).queryName(terms.queryName());
+    }
+
+    @Override
+    public int priority() {
+        // Run after the syntactic rewriters so that merged terms queries are considered
+        return 400;
+    }
+
+    @Override
+    public String name() {
+        return "field_statistics";
+    }
+}
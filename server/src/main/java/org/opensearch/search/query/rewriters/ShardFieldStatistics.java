@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query.rewriters;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Field statistics of a shard, computed lazily and cached for as long as the reader they were computed on is open.
+ * <p>
+ * Statistics are computed on the top level reader of the shard, so that every query of a point-in-time reader
+ * reuses the statistics of the previous ones, and they are dropped when the reader is closed by a refresh.
+ *
+ * @opensearch.internal
+ */
+final class ShardFieldStatistics {
+
+    /**
+     * Maximum number of distinct terms a field can have for its terms to be collected.
+     */
+    static final int MAX_COLLECTED_TERMS = 1024;
+
+    private static final Map<IndexReader.CacheKey, ShardFieldStatistics> CACHE = new ConcurrentHashMap<>();
+
+    private final IndexReader reader;
+    private final Map<String, PointRange> pointRanges = new ConcurrentHashMap<>();
+    private final Map<String, FieldTerms> fieldTerms = new ConcurrentHashMap<>();
+
+    private ShardFieldStatistics(IndexReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the statistics of the given reader, which are only cached if the reader exposes a cache key.
+     */
+    static ShardFieldStatistics of(IndexReader reader) {
+        IndexReader.CacheHelper cacheHelper = reader.getReaderCacheHelper();
+        if (cacheHelper == null) {
+            return new ShardFieldStatistics(reader);
+        }
+        return CACHE.computeIfAbsent(cacheHelper.getKey(), key -> {
+            cacheHelper.addClosedListener(CACHE::remove);
+            return new ShardFieldStatistics(reader);
+        });
+    }
+
+    static int cachedReaders() {
+        return CACHE.size();
+    }
+
+    /**
+     * The smallest and largest packed point values of a field.
+     */
+    record PointRange(byte[] min, byte[] max) {}
+
+    /**
+     * The distinct indexed terms of a field, sorted, and whether every doc with a value holds a single term.
+     */
+    record FieldTerms(List<BytesRef> terms, boolean singleValued) {}
+
+    /**
+     * Returns the range of the point values of the field, or {@code null} if it has no points in the shard.
+     */
+    PointRange pointRange(String field) {
+        PointRange range = pointRanges.computeIfAbsent(field, f -> {
+            try {
+                if (PointValues.size(reader, f) == 0) {
+                    return new PointRange(null, null);
+                }
+                return new PointRange(PointValues.getMinPackedValue(reader, f), PointValues.getMaxPackedValue(reader, f));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return range.min() == null ? null : range;
+    }
+
+    /**
+     * Returns the distinct terms of the field, or {@code null} if it has no terms in the shard or more than
+     * {@link #MAX_COLLECTED_TERMS} of them.
+     */
+    FieldTerms fieldTerms(String field) {
+        FieldTerms terms = fieldTerms.computeIfAbsent(field, f -> {
+            try {
+                return collectTerms(f);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return terms.terms() == null ? null : terms;
+    }
+
+    private FieldTerms collectTerms(String field) throws IOException {
+        TreeSet<BytesRef> distinctTerms = new TreeSet<>();
+        boolean singleValued = true;
+        for (LeafReaderContext leaf : reader.leaves()) {
+            Terms terms = leaf.reader().terms(field);
+            if (terms == null) {
+                continue;
+            }
+            if (terms.size() > MAX_COLLECTED_TERMS) {
+                return new FieldTerms(null, false);
+            }
+            // counts include deleted docs, so this holds for the live docs as well
+            singleValued &= terms.getSumDocFreq() == terms.getDocCount();
+            TermsEnum termsEnum = terms.iterator();
+            for (BytesRef term = termsEnum.next(); term != null; term = termsEnum.next()) {
+                if (distinctTerms.add(BytesRef.deepCopyOf(term)) && distinctTerms.size() > MAX_COLLECTED_TERMS) {
+                    return new FieldTerms(null, false);
+                }
+            }
+        }
+        if (distinctTerms.isEmpty()) {
+            return new FieldTerms(null, false);
+        }
+        return new FieldTerms(List.copyOf(distinctTerms), singleValued);
+    }
+}
@@ -24,6 +24,8 @@
  *       Transforms must_not queries to should queries for better performance</li>
  *   <li>{@link org.opensearch.search.query.rewriters.MustToFilterRewriter} -
  *       Moves scoring-irrelevant queries from must to filter clauses</li>
+ *   <li>{@link org.opensearch.search.query.rewriters.FieldStatisticsRewriter} -
+ *       Rewrites ranges and terms queries to cheaper equivalents using the field statistics of the shard</li>
  * </ul>
  *
  * @opensearch.internal
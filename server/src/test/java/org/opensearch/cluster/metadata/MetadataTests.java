@@ -1258,6 +1258,36 @@ public class MetadataTests extends OpenSearchTestCase {
         assertTrue(Metadata.isGlobalStateEquals(orig, fromStreamMeta));
     }
 
+    public void testSerializationSharesIdenticalMappings() throws IOException {
+        final Metadata.Builder builder = Metadata.builder();
+        final int numIndices = randomIntBetween(2, 10);
+        for (int i = 0; i < numIndices; i++) {
+            builder.put(
+                IndexMetadata.builder("index" + i)
+                    .settings(
+                        Settings.builder()
+                            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                    )
+                    .putMapping(FIND_MAPPINGS_TEST_ITEM)
+            );
+        }
+        final Metadata orig = builder.build();
+        final BytesStreamOutput out = new BytesStreamOutput();
+        orig.writeTo(out);
+        NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(ClusterModule.getNamedWriteables());
+        final Metadata fromStreamMeta = Metadata.readFrom(
+            new NamedWriteableAwareStreamInput(out.bytes().streamInput(), namedWriteableRegistry)
+        );
+
+        final MappingMetadata mapping = fromStreamMeta.index("index0").mapping();
+        assertEquals(orig.index("index0").mapping(), mapping);
+        for (int i = 1; i < numIndices; i++) {
+            assertSame(mapping, fromStreamMeta.index("index" + i).mapping());
+        }
+    }
+
     public void testValidateDataStreamsNoConflicts() {
         Metadata metadata = createIndices(5, 10, "foo-datastream").metadata;
         // don't expect any exception when validating a system without indices that would conflict with future backing indices
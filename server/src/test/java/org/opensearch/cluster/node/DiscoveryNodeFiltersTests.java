@@ -268,6 +268,21 @@ public class DiscoveryNodeFiltersTests extends OpenSearchTestCase {
         assertTrue(filters.match(node));
     }
 
+    public void testTrimTier() {
+        DiscoveryNodeFilters filters = buildFromSettings(OR, "xxx.", Settings.builder().put("xxx.tag", "A").build());
+        assertSame(filters, DiscoveryNodeFilters.trimTier(filters));
+
+        filters = buildFromSettings(OR, "xxx.", Settings.builder().put("xxx.tag", "A").put("xxx._tier", "hot").build());
+        DiscoveryNodeFilters trimmed = DiscoveryNodeFilters.trimTier(filters);
+        assertNotSame(filters, trimmed);
+        DiscoveryNode node = new DiscoveryNode("", "", "", "", "192.1.1.54", localAddress, singletonMap("tag", "A"), emptySet(), null);
+        assertTrue(trimmed.match(node));
+
+        filters = buildFromSettings(OR, "xxx.", Settings.builder().put("xxx._tier_preference", "hot").build());
+        assertNull(DiscoveryNodeFilters.trimTier(filters));
+        assertNull(DiscoveryNodeFilters.trimTier(null));
+    }
+
     public void testAndNodeFiltersUpdate() {
         Settings settings = Settings.builder().put("xxx._id", "id1").build();
         DiscoveryNodeFilters filters = buildFromSettings(AND, "xxx.", settings);
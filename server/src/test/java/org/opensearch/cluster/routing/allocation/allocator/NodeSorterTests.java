@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.routing.allocation.allocator;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class NodeSorterTests extends OpenSearchTestCase {
+
+    public void testResortMatchesFullSortWithTiedWeights() {
+        final int numNodes = randomIntBetween(2, 200);
+        final BalancedShardsAllocator.ModelNode[] nodes = new BalancedShardsAllocator.ModelNode[numNodes];
+        final float[] weights = new float[numNodes];
+        for (int i = 0; i < numNodes; i++) {
+            nodes[i] = new BalancedShardsAllocator.ModelNode(null);
+            // few distinct weights, so that many nodes are tied
+            weights[i] = randomIntBetween(0, 5);
+        }
+        final BalancedShardsAllocator.NodeSorter sorter = sorter(nodes, weights);
+        sorter.sort(0, numNodes);
+
+        // relocate a shard from the heaviest to the lightest node
+        final int from = numNodes - 1;
+        final int to = 0;
+        sorter.weights[from] -= randomIntBetween(0, 2);
+        sorter.weights[to] += randomIntBetween(0, 2);
+        final BalancedShardsAllocator.NodeSorter fullySorted = sorter(sorter.modelNodes.clone(), sorter.weights.clone());
+        final List<BalancedShardsAllocator.ModelNode> unchanged = new ArrayList<>(Arrays.asList(sorter.modelNodes).subList(1, from));
+
+        sorter.resort(0, numNodes);
+        fullySorted.sort(0, numNodes);
+
+        // both sorts agree on the weights, tied nodes may be in a different order
+        assertArrayEquals(fullySorted.weights, sorter.weights, 0f);
+        // nodes that were not moved keep their relative order
+        final List<BalancedShardsAllocator.ModelNode> resorted = new ArrayList<>(Arrays.asList(sorter.modelNodes));
+        resorted.retainAll(unchanged);
+        assertEquals(unchanged, resorted);
+    }
+
+    public void testResortMovesOnlyChangedNodes() {
+        final BalancedShardsAllocator.ModelNode[] nodes = new BalancedShardsAllocator.ModelNode[5];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new BalancedShardsAllocator.ModelNode(null);
+        }
+        final BalancedShardsAllocator.NodeSorter sorter = sorter(nodes.clone(), new float[] { 1f, 2f, 2f, 2f, 3f });
+        sorter.weights[0] = 2f;
+        sorter.weights[4] = 1f;
+
+        sorter.resort(0, nodes.length);
+
+        assertArrayEquals(new float[] { 1f, 2f, 2f, 2f, 2f }, sorter.weights, 0f);
+        assertArrayEquals(new BalancedShardsAllocator.ModelNode[] { nodes[4], nodes[0], nodes[1], nodes[2], nodes[3] }, sorter.modelNodes);
+    }
+
+    public void testResortRange() {
+        final BalancedShardsAllocator.ModelNode[] nodes = new BalancedShardsAllocator.ModelNode[4];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new BalancedShardsAllocator.ModelNode(null);
+        }
+        final BalancedShardsAllocator.NodeSorter sorter = sorter(nodes.clone(), new float[] { 3f, 2f, 1f, 0f });
+
+        sorter.resort(0, 3);
+
+        // the node after the range is left alone
+        assertArrayEquals(new float[] { 1f, 2f, 3f, 0f }, sorter.weights, 0f);
+        assertArrayEquals(new BalancedShardsAllocator.ModelNode[] { nodes[2], nodes[1], nodes[0], nodes[3] }, sorter.modelNodes);
+    }
+
+    private static BalancedShardsAllocator.NodeSorter sorter(BalancedShardsAllocator.ModelNode[] nodes, float[] weights) {
+        final BalancedShardsAllocator.NodeSorter sorter = new BalancedShardsAllocator.NodeSorter(nodes, null, null);
+        System.arraycopy(weights, 0, sorter.weights, 0, weights.length);
+        return sorter;
+    }
+}
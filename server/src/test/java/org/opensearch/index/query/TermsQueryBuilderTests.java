@@ -69,6 +69,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -474,6 +475,36 @@ public class TermsQueryBuilderTests extends AbstractQueryTestCase<TermsQueryBuil
         assertTrue(luceneQuery instanceof IndexOrDocValuesQuery);
     }
 
+    public void testTermsLookupBitmapFromSource() throws IOException {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        bitmap.add(111);
+        bitmap.add(333);
+        byte[] array = new byte[bitmap.serializedSizeInBytes()];
+        bitmap.serialize(ByteBuffer.wrap(array));
+        // binary values are base64 encoded in the source of the lookup doc
+        randomTerms = List.of(Base64.getEncoder().encodeToString(array));
+
+        TermsQueryBuilder query = new TermsQueryBuilder(INT_FIELD_NAME, randomTermsLookup().store(false)).valueType(
+            TermsQueryBuilder.ValueType.BITMAP
+        );
+        QueryShardContext context = createShardContext();
+        QueryBuilder rewritten = rewriteQuery(query, new QueryShardContext(context));
+        Query luceneQuery = rewritten.toQuery(context);
+        assertTrue(luceneQuery instanceof IndexOrDocValuesQuery);
+    }
+
+    public void testTermsLookupMultipleBitmaps() {
+        randomTerms = List.of("AAAA", "BBBB");
+        TermsQueryBuilder query = new TermsQueryBuilder(INT_FIELD_NAME, randomTermsLookup().store(false)).valueType(
+            TermsQueryBuilder.ValueType.BITMAP
+        );
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> rewriteQuery(query, new QueryShardContext(createShardContext()))
+        );
+        assertEquals("Invalid value for bitmap type: Expected a single base64 encoded serialized bitmap.", e.getMessage());
+    }
+
     public void testGetComplementWholeNumber() throws Exception {
         List<Object> values = List.of("200", "500", "304", "501");
         TermsQueryBuilder queryBuilder = new TermsQueryBuilder(INT_FIELD_NAME, values);
@@ -154,6 +154,26 @@ public class LeaderBulkByScrollTaskStateTests extends OpenSearchTestCase {
         }
     }
 
+    public void testConcurrentSubtasksAndRethrottle() {
+        int maxConcurrent = between(1, slices);
+        BulkByScrollTask leader = new BulkByScrollTask(2, "test_type", "test_action", "test", TaskId.EMPTY_TASK_ID, Collections.emptyMap());
+        leader.setWorkerCount(slices, maxConcurrent);
+        LeaderBulkByScrollTaskState state = leader.getLeaderState();
+        assertEquals(slices, state.getSlices());
+        assertEquals(maxConcurrent, state.getMaxConcurrentSubtasks());
+        assertEquals(slices, state.runningSliceSubTasks());
+        assertEquals(maxConcurrent, state.concurrentSliceSubTasks());
+
+        float requestsPerSecond = (float) randomDoubleBetween(1, 1000, true);
+        assertEquals(requestsPerSecond / maxConcurrent, state.subtaskRequestsPerSecond(requestsPerSecond), 0.00001f);
+        float newRequestsPerSecond = (float) randomDoubleBetween(1, 1000, true);
+        state.rethrottle(newRequestsPerSecond);
+        assertEquals(newRequestsPerSecond / maxConcurrent, state.subtaskRequestsPerSecond(requestsPerSecond), 0.00001f);
+
+        expectThrows(IllegalArgumentException.class, () -> new LeaderBulkByScrollTaskState(leader, slices, slices + 1));
+        expectThrows(IllegalArgumentException.class, () -> new LeaderBulkByScrollTaskState(leader, slices, 0));
+    }
+
     private <T> ActionListener<T> neverCalled() {
         return new ActionListener<T>() {
             @Override
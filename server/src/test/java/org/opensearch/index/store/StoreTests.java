@@ -34,6 +34,7 @@ package org.opensearch.index.store;
 import org.apache.lucene.codecs.CodecUtil;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedDocValuesField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
@@ -680,6 +681,50 @@ public class StoreTests extends OpenSearchTestCase {
         IOUtils.close(store);
     }
 
+    public void testRecoveryDiffWithDocValuesUpdates() throws IOException {
+        final ShardId shardId = new ShardId("index", "_na_", 1);
+        Store store = new Store(shardId, INDEX_SETTINGS, StoreTests.newDirectory(random()), new DummyShardLock(shardId));
+        IndexWriterConfig iwc = new IndexWriterConfig(new MockAnalyzer(random())).setCodec(TestUtil.getDefaultCodec());
+        iwc.setMergePolicy(NoMergePolicy.INSTANCE);
+        iwc.setUseCompoundFile(random().nextBoolean());
+        IndexWriter writer = new IndexWriter(store.directory(), iwc);
+        int numDocs = randomIntBetween(2, 100);
+        for (int i = 0; i < numDocs; i++) {
+            Document doc = new Document();
+            doc.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+            doc.add(new NumericDocValuesField("dv", i));
+            writer.addDocument(doc);
+        }
+        writer.commit();
+        Store.MetadataSnapshot before = store.getMetadata();
+
+        writer.updateNumericDocValue(new Term("id", Integer.toString(randomIntBetween(0, numDocs - 1))), "dv", -1);
+        writer.commit();
+        writer.close();
+        Store.MetadataSnapshot after = store.getMetadata();
+
+        List<String> updateFiles = new ArrayList<>();
+        for (StoreFileMetadata md : after) {
+            if (before.contains(md.name()) == false && md.name().startsWith(IndexFileNames.SEGMENTS) == false) {
+                updateFiles.add(md.name());
+                assertThat(IndexFileNames.parseGeneration(md.name()), greaterThan(0L));
+            }
+        }
+        assertThat(updateFiles, not(empty()));
+
+        // only the doc values update and the commit have to be recovered, the files of the segment are reused
+        Store.RecoveryDiff diff = after.recoveryDiff(before);
+        assertThat(diff.different, empty());
+        assertThat(diff.missing.size(), equalTo(updateFiles.size() + 1));
+        assertThat(diff.identical.size(), equalTo(after.size() - updateFiles.size() - 1));
+        for (StoreFileMetadata md : diff.identical) {
+            assertThat(IndexFileNames.parseGeneration(md.name()), equalTo(0L));
+        }
+
+        deleteContent(store.directory());
+        IOUtils.close(store);
+    }
+
     public void testCleanupFromSnapshot() throws IOException {
         final ShardId shardId = new ShardId("index", "_na_", 1);
         Store store = new Store(shardId, INDEX_SETTINGS, StoreTests.newDirectory(random()), new DummyShardLock(shardId));
@@ -0,0 +1,254 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.apache.lucene.codecs.Codec;
+import org.opensearch.Version;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.CancellableThreads;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequestOptions;
+import org.opensearch.transport.TransportResponseHandler;
+import org.opensearch.transport.TransportService;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.opensearch.indices.replication.SegmentReplicationSourceService.Actions.UPDATE_VISIBLE_CHECKPOINT;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RelayReplicationSourceTests extends OpenSearchTestCase {
+
+    private static final long REPLICATION_ID = 1L;
+    private static final TimeValue MAX_WAIT = TimeValue.timeValueSeconds(1);
+
+    private final ShardId shardId = new ShardId("index", "_na_", 0);
+    private final DiscoveryNode primaryNode = new DiscoveryNode("primary", buildNewFakeTransportAddress(), Version.CURRENT);
+    private final DiscoveryNode relayNode = new DiscoveryNode("relay", buildNewFakeTransportAddress(), Version.CURRENT);
+    private final AtomicLong relativeTimeInMillis = new AtomicLong();
+    private SegmentReplicationSource relaySource;
+    private SegmentReplicationSource primarySource;
+    private TransportService transportService;
+    private RelayReplicationSource replicationSource;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        relaySource = mock(SegmentReplicationSource.class);
+        primarySource = mock(SegmentReplicationSource.class);
+
+        // scheduled retries run right away and move the clock forward by their delay
+        final ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.relativeTimeInMillis()).thenAnswer(invocation -> relativeTimeInMillis.get());
+        doAnswer(invocation -> {
+            relativeTimeInMillis.addAndGet(invocation.<TimeValue>getArgument(1).millis());
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(threadPool).schedule(any(), any(), anyString());
+        transportService = mock(TransportService.class);
+        when(transportService.getThreadPool()).thenReturn(threadPool);
+
+        final Settings settings = Settings.builder()
+            .put(RecoverySettings.INDICES_REPLICATION_RELAY_MAX_WAIT_SETTING.getKey(), MAX_WAIT)
+            .build();
+        final RecoverySettings recoverySettings = new RecoverySettings(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        replicationSource = new RelayReplicationSource(
+            relaySource,
+            primarySource,
+            relayNode,
+            primaryNode,
+            shardId,
+            "target",
+            transportService,
+            recoverySettings
+        );
+    }
+
+    public void testCopiesFromRelayAndReportsCheckpointToPrimary() throws Exception {
+        final ReplicationCheckpoint checkpoint = checkpoint(2L);
+        respondToCheckpointInfo(relaySource, checkpoint(2L));
+        respondToSegmentFiles(relaySource);
+
+        final PlainActionFuture<CheckpointInfoResponse> checkpointInfo = new PlainActionFuture<>();
+        replicationSource.getCheckpointMetadata(REPLICATION_ID, checkpoint, checkpointInfo);
+        assertEquals(checkpoint, checkpointInfo.get().getCheckpoint());
+
+        final PlainActionFuture<GetSegmentFilesResponse> segmentFiles = new PlainActionFuture<>();
+        replicationSource.getSegmentFiles(REPLICATION_ID, checkpoint, List.of(file("_0.cfs")), null, (f, b) -> {}, segmentFiles);
+        assertEquals(1, segmentFiles.get().getFiles().size());
+
+        verify(primarySource, never()).getCheckpointMetadata(anyLong(), any(), any());
+        verify(primarySource, never()).getSegmentFiles(anyLong(), any(), any(), any(), any(), any());
+        verify(transportService).sendRequest(
+            eq(primaryNode),
+            eq(UPDATE_VISIBLE_CHECKPOINT),
+            any(UpdateVisibleCheckpointRequest.class),
+            any(TransportRequestOptions.class),
+            any(TransportResponseHandler.class)
+        );
+    }
+
+    public void testFailedRelayedCopyIsNotReportedToPrimary() throws Exception {
+        final ReplicationCheckpoint checkpoint = checkpoint(2L);
+        respondToCheckpointInfo(relaySource, checkpoint(2L));
+        doAnswer(invocation -> {
+            invocation.<ActionListener<GetSegmentFilesResponse>>getArgument(5).onFailure(new IllegalStateException("copy failed"));
+            return null;
+        }).when(relaySource).getSegmentFiles(anyLong(), any(), any(), any(), any(), any());
+
+        final PlainActionFuture<CheckpointInfoResponse> checkpointInfo = new PlainActionFuture<>();
+        replicationSource.getCheckpointMetadata(REPLICATION_ID, checkpoint, checkpointInfo);
+        assertEquals(checkpoint, checkpointInfo.get().getCheckpoint());
+
+        final PlainActionFuture<GetSegmentFilesResponse> segmentFiles = new PlainActionFuture<>();
+        replicationSource.getSegmentFiles(REPLICATION_ID, checkpoint, List.of(file("_0.cfs")), null, (f, b) -> {}, segmentFiles);
+        final ExecutionException e = expectThrows(ExecutionException.class, segmentFiles::get);
+        assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+        verify(transportService, never()).sendRequest(
+            any(DiscoveryNode.class),
+            eq(UPDATE_VISIBLE_CHECKPOINT),
+            any(),
+            any(TransportRequestOptions.class),
+            any(TransportResponseHandler.class)
+        );
+    }
+
+    public void testWaitsForRelayToCatchUp() throws Exception {
+        final ReplicationCheckpoint checkpoint = checkpoint(2L);
+        final List<ActionListener<GetSegmentFilesResponse>> releases = new ArrayList<>();
+        final int[] checkpointInfoRequests = new int[1];
+        doAnswer(invocation -> {
+            final ActionListener<CheckpointInfoResponse> listener = invocation.getArgument(2);
+            // the relay is behind on the first request and catches up on the second one
+            final ReplicationCheckpoint relayCheckpoint = checkpointInfoRequests[0]++ == 0 ? checkpoint(1L) : checkpoint(2L);
+            listener.onResponse(new CheckpointInfoResponse(relayCheckpoint, Collections.emptyMap(), new byte[0]));
+            return null;
+        }).when(relaySource).getCheckpointMetadata(eq(REPLICATION_ID), eq(checkpoint), any());
+        doAnswer(invocation -> {
+            assertTrue(invocation.<List<StoreFileMetadata>>getArgument(2).isEmpty());
+            releases.add(invocation.getArgument(5));
+            return null;
+        }).when(relaySource).getSegmentFiles(eq(REPLICATION_ID), eq(checkpoint(1L)), any(), any(), any(), any());
+
+        final PlainActionFuture<CheckpointInfoResponse> checkpointInfo = new PlainActionFuture<>();
+        replicationSource.getCheckpointMetadata(REPLICATION_ID, checkpoint, checkpointInfo);
+
+        // the copy state the relay holds for the stale checkpoint is released before asking again
+        assertEquals(1, releases.size());
+        assertEquals(1, checkpointInfoRequests[0]);
+        assertFalse(checkpointInfo.isDone());
+        releases.get(0).onResponse(new GetSegmentFilesResponse(Collections.emptyList()));
+
+        assertEquals(2, checkpointInfoRequests[0]);
+        assertEquals(checkpoint, checkpointInfo.get().getCheckpoint());
+        verify(primarySource, never()).getCheckpointMetadata(anyLong(), any(), any());
+    }
+
+    public void testFallsBackToPrimaryWhenRelayFails() throws Exception {
+        final ReplicationCheckpoint checkpoint = checkpoint(2L);
+        doAnswer(invocation -> {
+            invocation.<ActionListener<CheckpointInfoResponse>>getArgument(2).onFailure(new IllegalStateException("relay is behind"));
+            return null;
+        }).when(relaySource).getCheckpointMetadata(anyLong(), any(), any());
+        respondToCheckpointInfo(primarySource, checkpoint);
+        respondToSegmentFiles(primarySource);
+
+        final PlainActionFuture<CheckpointInfoResponse> checkpointInfo = new PlainActionFuture<>();
+        replicationSource.getCheckpointMetadata(REPLICATION_ID, checkpoint, checkpointInfo);
+        assertEquals(checkpoint, checkpointInfo.get().getCheckpoint());
+        // the relay was polled until the max wait ran out
+        final int expectedRelayRequests = Math.toIntExact(
+            (MAX_WAIT.millis() - 1) / RelayReplicationSource.RELAY_RETRY_INTERVAL.millis()
+        ) + 1;
+        verify(relaySource, times(expectedRelayRequests)).getCheckpointMetadata(anyLong(), any(), any());
+        assertTrue(relativeTimeInMillis.get() <= MAX_WAIT.millis());
+
+        final PlainActionFuture<GetSegmentFilesResponse> segmentFiles = new PlainActionFuture<>();
+        replicationSource.getSegmentFiles(REPLICATION_ID, checkpoint, List.of(file("_0.cfs")), null, (f, b) -> {}, segmentFiles);
+        segmentFiles.get();
+        verify(relaySource, never()).getSegmentFiles(anyLong(), any(), any(), any(), any(), any());
+        // the primary knows about the copies it sends
+        verify(transportService, never()).sendRequest(
+            any(DiscoveryNode.class),
+            anyString(),
+            any(),
+            any(TransportRequestOptions.class),
+            any(TransportResponseHandler.class)
+        );
+    }
+
+    public void testMergedSegmentsComeFromPrimary() {
+        final ActionListener<GetSegmentFilesResponse> listener = ActionListener.wrap(() -> {});
+        replicationSource.getMergedSegmentFiles(REPLICATION_ID, checkpoint(2L), List.of(), null, (f, b) -> {}, listener);
+        verify(primarySource).getMergedSegmentFiles(anyLong(), any(), any(), any(), any(), any());
+        verify(relaySource, never()).getMergedSegmentFiles(anyLong(), any(), any(), any(), any(), any());
+    }
+
+    public void testCancel() {
+        replicationSource.cancel();
+        verify(relaySource).cancel();
+        verify(primarySource).cancel();
+
+        final PlainActionFuture<CheckpointInfoResponse> checkpointInfo = new PlainActionFuture<>();
+        replicationSource.getCheckpointMetadata(REPLICATION_ID, checkpoint(2L), checkpointInfo);
+        final ExecutionException e = expectThrows(ExecutionException.class, checkpointInfo::get);
+        assertThat(e.getCause(), instanceOf(CancellableThreads.ExecutionCancelledException.class));
+        verify(relaySource, never()).getCheckpointMetadata(anyLong(), any(), any());
+    }
+
+    private ReplicationCheckpoint checkpoint(long segmentInfosVersion) {
+        return new ReplicationCheckpoint(shardId, 1L, 1L, segmentInfosVersion, Codec.getDefault().getName());
+    }
+
+    private static StoreFileMetadata file(String name) {
+        return new StoreFileMetadata(name, 1L, "0", org.apache.lucene.util.Version.LATEST);
+    }
+
+    private static void respondToCheckpointInfo(SegmentReplicationSource source, ReplicationCheckpoint checkpoint) {
+        doAnswer(invocation -> {
+            invocation.<ActionListener<CheckpointInfoResponse>>getArgument(2)
+                .onResponse(new CheckpointInfoResponse(checkpoint, Collections.emptyMap(), new byte[0]));
+            return null;
+        }).when(source).getCheckpointMetadata(anyLong(), any(), any());
+    }
+
+    private static void respondToSegmentFiles(SegmentReplicationSource source) {
+        doAnswer(invocation -> {
+            invocation.<ActionListener<GetSegmentFilesResponse>>getArgument(5)
+                .onResponse(new GetSegmentFilesResponse(invocation.getArgument(2)));
+            return null;
+        }).when(source).getSegmentFiles(anyLong(), any(), any(), any(), any(), any());
+    }
+}
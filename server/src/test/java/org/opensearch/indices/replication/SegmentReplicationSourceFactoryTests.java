@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.action.support.replication.ClusterStateCreationUtils;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class SegmentReplicationSourceFactoryTests extends OpenSearchTestCase {
+
+    public void testRelayTree() {
+        final int numberOfReplicas = randomIntBetween(1, 8);
+        final ShardRoutingState[] replicaStates = new ShardRoutingState[numberOfReplicas];
+        Arrays.fill(replicaStates, ShardRoutingState.STARTED);
+        final ClusterState state = ClusterStateCreationUtils.state("index", true, ShardRoutingState.STARTED, replicaStates);
+        final IndexShardRoutingTable shardRoutingTable = state.routingTable().shardRoutingTable(new ShardId("index", "_na_", 0));
+        final int fanOut = randomIntBetween(1, 3);
+        final List<String> awarenessAttributes = randomBoolean() ? Collections.emptyList() : Collections.singletonList("zone");
+
+        assertNull(SegmentReplicationSourceFactory.getRelayNode(state, shardRoutingTable.primaryShard(), fanOut, awarenessAttributes));
+
+        final List<ShardRouting> replicas = shardRoutingTable.replicaShards()
+            .stream()
+            .sorted(Comparator.comparing(replica -> replica.allocationId().getId()))
+            .collect(Collectors.toList());
+        assertNull(SegmentReplicationSourceFactory.getRelayNode(state, replicas.get(0), fanOut, awarenessAttributes));
+        for (int i = 1; i < replicas.size(); i++) {
+            final ShardRouting relay = replicas.get((i - 1) / fanOut);
+            assertEquals(
+                state.nodes().get(relay.currentNodeId()),
+                SegmentReplicationSourceFactory.getRelayNode(state, replicas.get(i), fanOut, awarenessAttributes)
+            );
+        }
+    }
+
+    public void testInitializingReplicaCopiesFromPrimary() {
+        final ClusterState state = ClusterStateCreationUtils.state(
+            "index",
+            true,
+            ShardRoutingState.STARTED,
+            ShardRoutingState.STARTED,
+            ShardRoutingState.INITIALIZING
+        );
+        final IndexShardRoutingTable shardRoutingTable = state.routingTable().shardRoutingTable(new ShardId("index", "_na_", 0));
+        for (ShardRouting replica : shardRoutingTable.replicaShards()) {
+            // the only started replica is the root of the tree and the initializing one is not part of it yet
+            assertNull(SegmentReplicationSourceFactory.getRelayNode(state, replica, 1, Collections.emptyList()));
+        }
+    }
+
+    public void testRelayTreePerZone() {
+        final int numberOfReplicas = randomIntBetween(2, 8);
+        final ShardRoutingState[] replicaStates = new ShardRoutingState[numberOfReplicas];
+        Arrays.fill(replicaStates, ShardRoutingState.STARTED);
+        final ClusterState state = withZones(
+            ClusterStateCreationUtils.state("index", true, ShardRoutingState.STARTED, replicaStates),
+            randomIntBetween(1, 3)
+        );
+        final IndexShardRoutingTable shardRoutingTable = state.routingTable().shardRoutingTable(new ShardId("index", "_na_", 0));
+        final int fanOut = randomIntBetween(1, 3);
+        final List<String> awarenessAttributes = Collections.singletonList("zone");
+
+        final Map<String, List<ShardRouting>> replicasPerZone = shardRoutingTable.replicaShards()
+            .stream()
+            .sorted(Comparator.comparing(replica -> replica.allocationId().getId()))
+            .collect(Collectors.groupingBy(replica -> zoneOf(state, replica), Collectors.toList()));
+        for (List<ShardRouting> zoneReplicas : replicasPerZone.values()) {
+            // the root of each zone copies from the primary, every other replica from a replica of the same zone
+            assertNull(SegmentReplicationSourceFactory.getRelayNode(state, zoneReplicas.get(0), fanOut, awarenessAttributes));
+            for (int i = 1; i < zoneReplicas.size(); i++) {
+                final ShardRouting relay = zoneReplicas.get((i - 1) / fanOut);
+                final DiscoveryNode relayNode = SegmentReplicationSourceFactory.getRelayNode(
+                    state,
+                    zoneReplicas.get(i),
+                    fanOut,
+                    awarenessAttributes
+                );
+                assertEquals(state.nodes().get(relay.currentNodeId()), relayNode);
+                assertEquals(zoneOf(state, zoneReplicas.get(i)), relayNode.getAttributes().get("zone"));
+            }
+        }
+    }
+
+    /**
+     * Returns the given state with the nodes spread over the given number of zones.
+     */
+    private static ClusterState withZones(ClusterState state, int numberOfZones) {
+        final DiscoveryNodes.Builder nodes = DiscoveryNodes.builder(state.nodes());
+        int i = 0;
+        for (DiscoveryNode node : state.nodes()) {
+            nodes.add(
+                new DiscoveryNode(
+                    node.getName(),
+                    node.getId(),
+                    node.getEphemeralId(),
+                    node.getHostName(),
+                    node.getHostAddress(),
+                    node.getAddress(),
+                    Map.of("zone", "zone-" + (i++ % numberOfZones)),
+                    node.getRoles(),
+                    node.getVersion()
+                )
+            );
+        }
+        return ClusterState.builder(state).nodes(nodes).build();
+    }
+
+    private static String zoneOf(ClusterState state, ShardRouting shardRouting) {
+        return state.nodes().get(shardRouting.currentNodeId()).getAttributes().get("zone");
+    }
+}
@@ -9,7 +9,11 @@
 package org.opensearch.indices.replication;
 
 import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
 import org.opensearch.Version;
+import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.routing.ShardRouting;
@@ -25,7 +29,9 @@ import org.opensearch.index.IndexSettings;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardState;
 import org.opensearch.index.shard.ReplicationGroup;
+import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.recovery.FileChunkRequest;
 import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
 import org.opensearch.indices.replication.common.CopyStateTests;
@@ -43,10 +49,17 @@ import org.junit.Assert;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static org.opensearch.cluster.metadata.IndexMetadata.INDEX_REPLICATION_TYPE_SETTING;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -177,6 +190,81 @@ public class SegmentReplicationSourceServiceTests extends OpenSearchTestCase {
         });
     }
 
+    public void testGetMergedSegmentFiles_onlyMissingFiles() {
+        // the replica already has every file of the merged segment, so nothing is read from the store
+        final ReplicationCheckpoint mergedCheckpoint = new ReplicationCheckpoint(
+            testCheckpoint.getShardId(),
+            testCheckpoint.getPrimaryTerm(),
+            testCheckpoint.getSegmentsGen(),
+            testCheckpoint.getSegmentInfosVersion(),
+            1L,
+            testCheckpoint.getCodec(),
+            Map.of("_0.cfs", new StoreFileMetadata("_0.cfs", 1L, "0", org.apache.lucene.util.Version.LATEST))
+        );
+        final GetSegmentFilesRequest request = new GetSegmentFilesRequest(
+            1,
+            "allocationId",
+            localNode,
+            Collections.emptyList(),
+            mergedCheckpoint
+        );
+        final PlainActionFuture<GetSegmentFilesResponse> future = new PlainActionFuture<>();
+        executeGetMergedSegmentFiles(request, future);
+        assertEquals(0, future.actionGet().files.size());
+        verify(mockIndexShard, times(0)).store();
+    }
+
+    public void testGetMergedSegmentFiles_sendsRequestedFiles() throws IOException {
+        final Set<String> sentFiles = ConcurrentHashMap.newKeySet();
+        transportService.registerRequestHandler(
+            SegmentReplicationTargetService.Actions.MERGED_SEGMENT_FILE_CHUNK,
+            ThreadPool.Names.SAME,
+            FileChunkRequest::new,
+            (request, channel, task) -> {
+                sentFiles.add(request.name());
+                channel.sendResponse(TransportResponse.Empty.INSTANCE);
+            }
+        );
+        try (Directory directory = newDirectory()) {
+            final Map<String, StoreFileMetadata> mergedSegmentMetadata = new HashMap<>();
+            for (String name : List.of("_0.cfs", "_0.cfe", "_0.si")) {
+                final byte[] bytes = randomByteArrayOfLength(randomIntBetween(1, 100));
+                try (IndexOutput output = directory.createOutput(name, IOContext.DEFAULT)) {
+                    output.writeBytes(bytes, bytes.length);
+                }
+                mergedSegmentMetadata.put(name, new StoreFileMetadata(name, bytes.length, "0", org.apache.lucene.util.Version.LATEST));
+            }
+            when(mockIndexShard.store().directory()).thenReturn(directory);
+            final ReplicationCheckpoint mergedCheckpoint = new ReplicationCheckpoint(
+                testCheckpoint.getShardId(),
+                testCheckpoint.getPrimaryTerm(),
+                testCheckpoint.getSegmentsGen(),
+                testCheckpoint.getSegmentInfosVersion(),
+                1L,
+                testCheckpoint.getCodec(),
+                mergedSegmentMetadata
+            );
+            // the replica already has _0.cfe, and asks for a file that is not part of the merged segment
+            final GetSegmentFilesRequest request = new GetSegmentFilesRequest(
+                1,
+                "allocationId",
+                localNode,
+                List.of(
+                    mergedSegmentMetadata.get("_0.cfs"),
+                    mergedSegmentMetadata.get("_0.si"),
+                    new StoreFileMetadata("_1.cfs", 1L, "0", org.apache.lucene.util.Version.LATEST)
+                ),
+                mergedCheckpoint
+            );
+            final PlainActionFuture<GetSegmentFilesResponse> future = new PlainActionFuture<>();
+            executeGetMergedSegmentFiles(request, future);
+
+            final Set<String> responseFiles = future.actionGet().files.stream().map(StoreFileMetadata::name).collect(Collectors.toSet());
+            assertEquals(Set.of("_0.cfs", "_0.si"), responseFiles);
+            assertEquals(Set.of("_0.cfs", "_0.si"), sentFiles);
+        }
+    }
+
     public void testGetMergedSegmentFiles_shardClosed() {
         when(mockIndexShard.state()).thenReturn(IndexShardState.CLOSED);
         final GetSegmentFilesRequest request = new GetSegmentFilesRequest(
@@ -258,6 +346,43 @@ public class SegmentReplicationSourceServiceTests extends OpenSearchTestCase {
         });
     }
 
+    public void testCheckpointInfo_relayServesReachedCheckpoint() {
+        when(mockIndexShard.isPrimaryMode()).thenReturn(false);
+        when(mockIndexShard.getLatestReplicationCheckpoint()).thenReturn(testCheckpoint);
+        final PlainActionFuture<CheckpointInfoResponse> future = new PlainActionFuture<>();
+        executeGetCheckpointInfo(testCheckpoint, future);
+        assertEquals(testCheckpoint, future.actionGet().getCheckpoint());
+    }
+
+    public void testCheckpointInfo_relayBehindCheckpoint() {
+        when(mockIndexShard.isPrimaryMode()).thenReturn(false);
+        when(mockIndexShard.getLatestReplicationCheckpoint()).thenReturn(testCheckpoint);
+        final ReplicationCheckpoint aheadCheckpoint = new ReplicationCheckpoint(
+            testCheckpoint.getShardId(),
+            testCheckpoint.getPrimaryTerm(),
+            testCheckpoint.getSegmentsGen(),
+            testCheckpoint.getSegmentInfosVersion() + 1,
+            testCheckpoint.getCodec()
+        );
+        final PlainActionFuture<CheckpointInfoResponse> future = new PlainActionFuture<>();
+        executeGetCheckpointInfo(aheadCheckpoint, future);
+        final TransportException e = expectThrows(TransportException.class, future::actionGet);
+        assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+        assertThat(e.getCause().getMessage(), containsString("has not reached checkpoint"));
+        // no copy state is held for a checkpoint the relay cannot serve
+        assertEquals(0, ongoingSegmentReplications.size());
+    }
+
+    public void testCheckpointInfo_relayNotStarted() {
+        when(mockIndexShard.isPrimaryMode()).thenReturn(false);
+        when(mockIndexShard.state()).thenReturn(IndexShardState.RECOVERING);
+        final PlainActionFuture<CheckpointInfoResponse> future = new PlainActionFuture<>();
+        executeGetCheckpointInfo(testCheckpoint, future);
+        final TransportException e = expectThrows(TransportException.class, future::actionGet);
+        assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+        assertThat(e.getCause().getMessage(), containsString("cannot relay segments"));
+    }
+
     public void testPrimaryClearsOutOfSyncIds() {
         final ClusterChangedEvent mock = mock(ClusterChangedEvent.class);
         when(mock.routingTableChanged()).thenReturn(true);
@@ -266,7 +391,11 @@ public class SegmentReplicationSourceServiceTests extends OpenSearchTestCase {
     }
 
     private void executeGetCheckpointInfo(ActionListener<CheckpointInfoResponse> listener) {
-        final CheckpointInfoRequest request = new CheckpointInfoRequest(1L, "testAllocationId", localNode, testCheckpoint);
+        executeGetCheckpointInfo(testCheckpoint, listener);
+    }
+
+    private void executeGetCheckpointInfo(ReplicationCheckpoint checkpoint, ActionListener<CheckpointInfoResponse> listener) {
+        final CheckpointInfoRequest request = new CheckpointInfoRequest(1L, "testAllocationId", localNode, checkpoint);
         transportService.sendRequest(
             localNode,
             SegmentReplicationSourceService.Actions.GET_CHECKPOINT_INFO,
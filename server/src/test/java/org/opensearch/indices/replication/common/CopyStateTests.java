@@ -12,12 +12,16 @@ import org.apache.lucene.codecs.Codec;
 import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexFileNames;
 import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.BufferedChecksumIndexInput;
+import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.Version;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.concurrent.GatedCloseable;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.env.Environment;
+import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardTestCase;
 import org.opensearch.index.store.Store;
@@ -61,6 +65,40 @@ public class CopyStateTests extends IndexShardTestCase {
         assertEquals(EXPECTED_LONG_VALUE, checkpoint.getPrimaryTerm());
     }
 
+    public void testMaxSeqNoOnlyCappedOnPrimary() throws IOException {
+        final IndexShard mockIndexShard = createMockIndexShard();
+        final SegmentInfos segmentInfos = new SegmentInfos(Version.LATEST.major);
+        segmentInfos.setUserData(Map.of(SequenceNumbers.MAX_SEQ_NO, "10"), false);
+        final ReplicationCheckpoint checkpoint = new ReplicationCheckpoint(
+            TEST_SHARD_ID,
+            EXPECTED_LONG_VALUE,
+            0L,
+            0L,
+            Codec.getDefault().getName()
+        );
+        when(mockIndexShard.getLatestSegmentInfosAndCheckpoint()).thenReturn(
+            new Tuple<>(new GatedCloseable<>(segmentInfos, () -> {}), checkpoint)
+        );
+        when(mockIndexShard.getLastRefreshedCheckpoint()).thenReturn(5L);
+
+        when(mockIndexShard.isPrimaryMode()).thenReturn(true);
+        assertEquals("5", readUserData(new CopyState(mockIndexShard), segmentInfos).get(SequenceNumbers.MAX_SEQ_NO));
+
+        // a replica relaying segments serves the infos it received from the primary as they are
+        when(mockIndexShard.isPrimaryMode()).thenReturn(false);
+        assertEquals("10", readUserData(new CopyState(mockIndexShard), segmentInfos).get(SequenceNumbers.MAX_SEQ_NO));
+    }
+
+    private Map<String, String> readUserData(CopyState copyState, SegmentInfos segmentInfos) throws IOException {
+        try (Directory directory = newDirectory()) {
+            return SegmentInfos.readCommit(
+                directory,
+                new BufferedChecksumIndexInput(new ByteArrayIndexInput("infos", copyState.getInfosBytes())),
+                segmentInfos.getGeneration()
+            ).getUserData();
+        }
+    }
+
     public static IndexShard createMockIndexShard() throws IOException {
         IndexShard mockShard = mock(IndexShard.class);
         when(mockShard.shardId()).thenReturn(TEST_SHARD_ID);
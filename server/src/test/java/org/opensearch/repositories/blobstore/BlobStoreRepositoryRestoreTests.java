@@ -36,6 +36,7 @@ import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.util.TestUtil;
 import org.opensearch.Version;
 import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.metadata.CryptoMetadata;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.metadata.RepositoryMetadata;
 import org.opensearch.cluster.routing.RecoverySource;
@@ -44,6 +45,11 @@ import org.opensearch.cluster.routing.ShardRoutingHelper;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Priority;
 import org.opensearch.common.UUIDs;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.blobstore.BlobPath;
+import org.opensearch.common.blobstore.BlobStore;
+import org.opensearch.common.blobstore.fs.FsBlobStore;
+import org.opensearch.common.blobstore.support.FilterBlobContainer;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.io.IOUtils;
@@ -71,15 +77,20 @@ import org.opensearch.snapshots.SnapshotId;
 import org.opensearch.snapshots.SnapshotInfo;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 
 /**
  * This class tests the behavior of {@link BlobStoreRepository} when it
@@ -240,8 +251,56 @@ public class BlobStoreRepositoryRestoreTests extends IndexShardTestCase {
         }
     }
 
+    public void testSnapshotUploadsLargestFilesFirst() throws IOException {
+        final IndexId indexId = new IndexId(randomAlphaOfLength(10), UUIDs.randomBase64UUID());
+        final ShardId shardId = new ShardId(indexId.getName(), indexId.getId(), 0);
+
+        IndexShard shard = newShard(shardId, true);
+        try {
+            // index documents in several segments of different sizes
+            recoverShardFromStore(shard);
+            final int numSegments = randomIntBetween(2, 5);
+            int numDocs = 0;
+            for (int segment = 0; segment < numSegments; segment++) {
+                final int segmentDocs = randomIntBetween(1, 100);
+                for (int i = 0; i < segmentDocs; i++) {
+                    indexDoc(shard, "_doc", Integer.toString(numDocs++));
+                }
+                flushShard(shard, true);
+            }
+            assertDocCount(shard, numDocs);
+
+            // the snapshot pool of the test repository runs on the calling thread, so files are uploaded one after the other
+            final List<Long> uploadedSizes = new CopyOnWriteArrayList<>();
+            final Repository repository = createRepository(uploadedSizes);
+            final Snapshot snapshot = new Snapshot(repository.getMetadata().name(), new SnapshotId(randomAlphaOfLength(10), "_uuid"));
+            snapshotShard(shard, snapshot, repository);
+
+            assertThat(uploadedSizes.size(), greaterThan(1));
+            for (int i = 1; i < uploadedSizes.size(); i++) {
+                assertThat("uploaded sizes " + uploadedSizes, uploadedSizes.get(i - 1), greaterThanOrEqualTo(uploadedSizes.get(i)));
+            }
+        } finally {
+            if (shard != null && shard.state() != IndexShardState.CLOSED) {
+                try {
+                    shard.close("test", false, false);
+                } finally {
+                    IOUtils.close(shard.store());
+                }
+            }
+        }
+    }
+
     /** Create a {@link Repository} with a random name **/
     private Repository createRepository() {
+        return createRepository(null);
+    }
+
+    /**
+     * Create a {@link Repository} with a random name that records the size of the shard data blobs it writes, in the order
+     * they are written, if {@code uploadedSizes} is not {@code null}
+     */
+    private Repository createRepository(List<Long> uploadedSizes) {
         Settings settings = Settings.builder().put("location", randomAlphaOfLength(10)).build();
         RepositoryMetadata repositoryMetadata = new RepositoryMetadata(randomAlphaOfLength(10), FsRepository.TYPE, settings);
         final ClusterService clusterService = BlobStoreTestUtil.mockClusterService(repositoryMetadata);
@@ -256,6 +315,20 @@ public class BlobStoreRepositoryRestoreTests extends IndexShardTestCase {
             protected void assertSnapshotOrGenericThread() {
                 // eliminate thread name check as we create repo manually
             }
+
+            @Override
+            protected BlobStore createBlobStore() throws Exception {
+                final FsBlobStore blobStore = (FsBlobStore) super.createBlobStore();
+                if (uploadedSizes == null) {
+                    return blobStore;
+                }
+                return new FsBlobStore(blobStore.bufferSizeInBytes(), blobStore.path(), isReadOnly()) {
+                    @Override
+                    public BlobContainer blobContainer(BlobPath path) {
+                        return new RecordingBlobContainer(super.blobContainer(path), uploadedSizes);
+                    }
+                };
+            }
         };
         clusterService.addStateApplier(event -> repository.updateState(event.state()));
         // Apply state once to initialize repo properly like RepositoriesService would
@@ -274,4 +347,38 @@ public class BlobStoreRepositoryRestoreTests extends IndexShardTestCase {
                 .build()
         );
     }
+
+    /**
+     * Records the size of the shard data blobs written to it.
+     */
+    private static class RecordingBlobContainer extends FilterBlobContainer {
+
+        private final List<Long> uploadedSizes;
+
+        RecordingBlobContainer(BlobContainer delegate, List<Long> uploadedSizes) {
+            super(delegate);
+            this.uploadedSizes = uploadedSizes;
+        }
+
+        @Override
+        protected BlobContainer wrapChild(BlobContainer child) {
+            return new RecordingBlobContainer(child, uploadedSizes);
+        }
+
+        @Override
+        public void writeBlobWithMetadata(
+            String blobName,
+            InputStream inputStream,
+            long blobSize,
+            boolean failIfAlreadyExists,
+            Map<String, String> metadata,
+            CryptoMetadata cryptoMetadata
+        ) throws IOException {
+            if (blobName.startsWith("__")) {
+                uploadedSizes.add(blobSize);
+            }
+            super.writeBlobWithMetadata(blobName, inputStream, blobSize, failIfAlreadyExists, metadata, cryptoMetadata);
+        }
+    }
+
 }
@@ -827,4 +827,5 @@ public class BlobStoreRepositoryTests extends BlobStoreRepositoryHelperTests {
         // then
         assertEquals(maxSafeArraySize, expectedThreshold);
     }
+
 }
@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket;
+
+import org.apache.lucene.search.DocIdStream;
+import org.opensearch.search.aggregations.LeafBucketCollector;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SubBucketBatcherTests extends OpenSearchTestCase {
+
+    public void testNoOpCollectorIsNotWrapped() {
+        assertSame(LeafBucketCollector.NO_OP_COLLECTOR, SubBucketBatcher.wrap(LeafBucketCollector.NO_OP_COLLECTOR));
+    }
+
+    public void testForwardsRunsOfTheSameBucket() throws IOException {
+        RecordingCollector sub = new RecordingCollector();
+        LeafBucketCollector batcher = SubBucketBatcher.wrap(sub);
+        batcher.collect(1, 0);
+        batcher.collect(2, 0);
+        batcher.collect(3, 0);
+        batcher.collect(5, 1);
+        batcher.collect(8, 0);
+        batcher.collect(9, 0);
+        SubBucketBatcher.flush(batcher);
+
+        assertEquals(List.of("stream[1, 2, 3]->0", "doc 5->1", "stream[8, 9]->0"), sub.calls);
+    }
+
+    public void testPreservesDocOrderAcrossBatches() throws IOException {
+        RecordingCollector sub = new RecordingCollector();
+        LeafBucketCollector batcher = SubBucketBatcher.wrap(sub);
+        int numDocs = randomIntBetween(1, 2000);
+        List<Integer> expected = new ArrayList<>();
+        int doc = 0;
+        for (int i = 0; i < numDocs; i++) {
+            doc += randomIntBetween(1, 3);
+            expected.add(doc);
+            batcher.collect(doc, randomIntBetween(0, 2));
+        }
+        SubBucketBatcher.flush(batcher);
+
+        assertEquals(expected, sub.docs);
+    }
+
+    public void testStreamHonorsUpTo() throws IOException {
+        List<Integer> firstPass = new ArrayList<>();
+        List<Integer> secondPass = new ArrayList<>();
+        LeafBucketCollector batcher = SubBucketBatcher.wrap(new LeafBucketCollector() {
+            @Override
+            public void collect(int doc, long owningBucketOrd) {
+                fail("expected a single batch");
+            }
+
+            @Override
+            public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
+                stream.forEach(10, firstPass::add);
+                assertTrue(stream.mayHaveRemaining());
+                assertEquals(1, stream.count(20));
+                stream.forEach(secondPass::add);
+                assertFalse(stream.mayHaveRemaining());
+            }
+        });
+        for (int doc : new int[] { 3, 7, 15, 21, 30 }) {
+            batcher.collect(doc, 0);
+        }
+        SubBucketBatcher.flush(batcher);
+
+        assertEquals(List.of(3, 7), firstPass);
+        assertEquals(List.of(21, 30), secondPass);
+    }
+
+    private static class RecordingCollector extends LeafBucketCollector {
+        final List<String> calls = new ArrayList<>();
+        final List<Integer> docs = new ArrayList<>();
+
+        @Override
+        public void collect(int doc, long owningBucketOrd) {
+            calls.add("doc " + doc + "->" + owningBucketOrd);
+            docs.add(doc);
+        }
+
+        @Override
+        public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
+            List<Integer> batch = new ArrayList<>();
+            stream.forEach(batch::add);
+            calls.add("stream" + batch + "->" + owningBucketOrd);
+            docs.addAll(batch);
+        }
+    }
+}
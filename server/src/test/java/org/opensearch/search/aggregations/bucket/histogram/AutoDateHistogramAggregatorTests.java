@@ -301,6 +301,18 @@ public class AutoDateHistogramAggregatorTests extends DateHistogramAggregatorTes
     }
 
     public void testAsSubAggWithIncreasedRounding() throws IOException {
+        asSubAggWithIncreasedRoundingTestCase(false);
+    }
+
+    /**
+     * The terms parent collects every doc into two owning buckets and the rounding of each of them increases while
+     * the skiplist collector resolves the buckets of ranges of docs.
+     */
+    public void testAsSubAggWithIncreasedRoundingSkiplist() throws IOException {
+        asSubAggWithIncreasedRoundingTestCase(true);
+    }
+
+    private void asSubAggWithIncreasedRoundingTestCase(boolean enableSkiplist) throws IOException {
         CheckedBiConsumer<RandomIndexWriter, DateFieldMapper.DateFieldType, IOException> buildIndex = (iw, dft) -> {
             long start = dft.parse("2020-01-01T00:00:00Z");
             long end = dft.parse("2021-01-01T00:00:00Z");
@@ -314,7 +326,9 @@ public class AutoDateHistogramAggregatorTests extends DateHistogramAggregatorTes
             for (long d = start; d < end; d += anHour) {
                 docs.add(
                     List.of(
-                        new SortedNumericDocValuesField(AGGREGABLE_DATE, d),
+                        enableSkiplist
+                            ? SortedNumericDocValuesField.indexedField(AGGREGABLE_DATE, d)
+                            : new SortedNumericDocValuesField(AGGREGABLE_DATE, d),
                         new SortedSetDocValuesField("k1", aBytes),
                         new SortedSetDocValuesField("k1", d < useC ? bBytes : cBytes),
                         new SortedNumericDocValuesField("n", n++)
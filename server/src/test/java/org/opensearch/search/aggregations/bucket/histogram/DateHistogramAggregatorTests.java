@@ -67,6 +67,7 @@ import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
+import org.opensearch.search.aggregations.bucket.terms.LongTerms;
 import org.opensearch.search.aggregations.bucket.terms.StringTerms;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
@@ -392,6 +393,139 @@ public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCas
         }
     }
 
+    public void testSkiplistUnderTermsParent() throws IOException {
+        Settings settings = getSettingsWithIndexSort();
+
+        IndexMetadata indexMetadata = new IndexMetadata.Builder("index").settings(settings).build();
+        IndexSettings indexSettings = new IndexSettings(indexMetadata, settings);
+
+        MappedFieldType dateType = new DateFieldMapper.DateFieldType(AGGREGABLE_DATE);
+        String categoryField = "category";
+        NumberFieldMapper.NumberFieldType categoryType = new NumberFieldMapper.NumberFieldType(
+            categoryField,
+            NumberFieldMapper.NumberType.LONG
+        );
+
+        IndexNumericFieldData fieldData = (IndexNumericFieldData) dateType.fielddataBuilder("index", () -> {
+            throw new UnsupportedOperationException();
+        }).build(null, null);
+        SortField sortField = fieldData.sortField(null, MultiValueMode.MIN, null, false);
+        try (Directory directory = newDirectory()) {
+            IndexWriterConfig config = newIndexWriterConfig();
+            config.setMergePolicy(NoMergePolicy.INSTANCE);
+            config.setIndexSort(new Sort(sortField));
+            String filterField = "type";
+            indexDocsForSkiplist(directory, config, filterField, categoryField);
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newSearcher(indexReader, true, true);
+
+                // the terms parent collects consecutive docs into different owning buckets
+                TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("category").field(categoryField)
+                    .order(BucketOrder.key(true))
+                    .subAggregation(
+                        new DateHistogramAggregationBuilder("test").field(AGGREGABLE_DATE).calendarInterval(DateHistogramInterval.YEAR)
+                    );
+
+                Query query = LongPoint.newExactQuery(filterField, 2);
+
+                LongTerms terms = searchAndReduce(
+                    indexSettings,
+                    indexSearcher,
+                    query,
+                    aggregationBuilder,
+                    1000,
+                    false,
+                    dateType,
+                    categoryType
+                );
+                assertEquals(2, terms.getBuckets().size());
+
+                // docs 6 and 8 with category 0
+                InternalDateHistogram histogram0 = terms.getBuckets().get(0).getAggregations().get("test");
+                assertEquals(2, histogram0.getBuckets().size());
+                assertEquals("2015-01-01T00:00:00.000Z", histogram0.getBuckets().get(0).getKeyAsString());
+                assertEquals(1, histogram0.getBuckets().get(0).getDocCount());
+                assertEquals("2016-01-01T00:00:00.000Z", histogram0.getBuckets().get(1).getKeyAsString());
+                assertEquals(1, histogram0.getBuckets().get(1).getDocCount());
+
+                // docs 5, 7 and 9 with category 1, the gap in 2016 is filled with an empty bucket
+                InternalDateHistogram histogram1 = terms.getBuckets().get(1).getAggregations().get("test");
+                assertEquals(3, histogram1.getBuckets().size());
+                assertEquals("2015-01-01T00:00:00.000Z", histogram1.getBuckets().get(0).getKeyAsString());
+                assertEquals(2, histogram1.getBuckets().get(0).getDocCount());
+                assertEquals("2016-01-01T00:00:00.000Z", histogram1.getBuckets().get(1).getKeyAsString());
+                assertEquals(0, histogram1.getBuckets().get(1).getDocCount());
+                assertEquals("2017-01-01T00:00:00.000Z", histogram1.getBuckets().get(2).getKeyAsString());
+                assertEquals(1, histogram1.getBuckets().get(2).getDocCount());
+            }
+        }
+    }
+
+    public void testSkiplistOwningBucketChangesPastSkipRange() throws IOException {
+        MappedFieldType dateType = new DateFieldMapper.DateFieldType(AGGREGABLE_DATE);
+        String categoryField = "category";
+        NumberFieldMapper.NumberFieldType categoryType = new NumberFieldMapper.NumberFieldType(
+            categoryField,
+            NumberFieldMapper.NumberType.LONG
+        );
+        TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("category").field(categoryField)
+            .order(BucketOrder.key(true))
+            .subAggregation(
+                new DateHistogramAggregationBuilder("test").field(AGGREGABLE_DATE).calendarInterval(DateHistogramInterval.YEAR)
+            );
+
+        LongTerms skiplist = searchYearPerCategory(true, aggregationBuilder, dateType, categoryType);
+        LongTerms perDoc = searchYearPerCategory(false, aggregationBuilder, dateType, categoryType);
+
+        assertEquals(2, perDoc.getBuckets().size());
+        assertEquals(perDoc.getBuckets().size(), skiplist.getBuckets().size());
+        for (int i = 0; i < perDoc.getBuckets().size(); i++) {
+            InternalDateHistogram expected = perDoc.getBuckets().get(i).getAggregations().get("test");
+            InternalDateHistogram actual = skiplist.getBuckets().get(i).getAggregations().get("test");
+            assertEquals(
+                expected.getBuckets().stream().map(bucket -> bucket.getKeyAsString() + "=" + bucket.getDocCount()).collect(toList()),
+                actual.getBuckets().stream().map(bucket -> bucket.getKeyAsString() + "=" + bucket.getDocCount()).collect(toList())
+            );
+        }
+        // category 1 only has docs in 2016, no empty 2015 bucket is added when its first doc is past the 2015 range
+        InternalDateHistogram histogram1 = skiplist.getBuckets().get(1).getAggregations().get("test");
+        assertEquals(1, histogram1.getBuckets().size());
+        assertEquals("2016-01-01T00:00:00.000Z", histogram1.getBuckets().get(0).getKeyAsString());
+    }
+
+    /**
+     * Indexes a full interval of the doc values skip index per year from 2015 to 2017, alternating the category of each
+     * year, and runs the aggregation on all docs.
+     */
+    private LongTerms searchYearPerCategory(boolean skipIndex, AggregationBuilder aggregationBuilder, MappedFieldType... fieldTypes)
+        throws IOException {
+        final int docsPerYear = 4096;
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                for (int year = 0; year < 3; year++) {
+                    long start = DateFormatters.from(DateFieldMapper.DEFAULT_DATE_TIME_FORMATTER.parse((2015 + year) + "-01-01T00:00:00"))
+                        .toInstant()
+                        .toEpochMilli();
+                    for (int i = 0; i < docsPerYear; i++) {
+                        Document doc = new Document();
+                        long timestamp = start + i;
+                        doc.add(
+                            skipIndex
+                                ? SortedNumericDocValuesField.indexedField(AGGREGABLE_DATE, timestamp)
+                                : new SortedNumericDocValuesField(AGGREGABLE_DATE, timestamp)
+                        );
+                        doc.add(new NumericDocValuesField("category", year % 2));
+                        indexWriter.addDocument(doc);
+                    }
+                }
+            }
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                return searchAndReduce(newSearcher(indexReader, false, true), new MatchAllDocsQuery(), aggregationBuilder, fieldTypes);
+            }
+        }
+    }
+
     private static void indexDocsForSkiplist(Directory directory, IndexWriterConfig config, String filterField, String categoryField)
         throws IOException {
         try (IndexWriter indexWriter = new IndexWriter(directory, config)) {
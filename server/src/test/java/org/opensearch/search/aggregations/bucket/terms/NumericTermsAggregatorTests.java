@@ -37,6 +37,8 @@ import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CheckedIntConsumer;
+import org.apache.lucene.search.DocIdStream;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
@@ -48,10 +50,13 @@ import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.search.aggregations.AggregationExecutionException;
+import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorTestCase;
 import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
+import org.opensearch.search.aggregations.metrics.Avg;
+import org.opensearch.search.aggregations.metrics.AvgAggregationBuilder;
 import org.opensearch.search.aggregations.support.ValueType;
 
 import java.io.IOException;
@@ -303,6 +308,101 @@ public class NumericTermsAggregatorTests extends AggregatorTestCase {
         }
     }
 
+    public void testDocIdStreamWithAvgSubAggregationMatchesPerDocCollection() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                // runs of docs in the same bucket, so that the avg gets batches of docs
+                int numDocs = randomIntBetween(1, 2000);
+                int runLength = randomIntBetween(1, 50);
+                for (int i = 0; i < numDocs; i++) {
+                    Document document = new Document();
+                    if (rarely() == false) {
+                        document.add(new SortedNumericDocValuesField(LONG_FIELD, (i / runLength) % 7));
+                    }
+                    if (rarely() == false) {
+                        document.add(new SortedNumericDocValuesField("metric", randomIntBetween(-100, 100)));
+                    }
+                    indexWriter.addDocument(document);
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                MappedFieldType longFieldType = new NumberFieldMapper.NumberFieldType(LONG_FIELD, NumberFieldMapper.NumberType.LONG);
+                MappedFieldType metricFieldType = new NumberFieldMapper.NumberFieldType("metric", NumberFieldMapper.NumberType.LONG);
+                TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name").field(LONG_FIELD)
+                    .size(10)
+                    .collectMode(Aggregator.SubAggCollectionMode.DEPTH_FIRST)
+                    .subAggregation(new AvgAggregationBuilder("avg").field("metric"));
+
+                Aggregator perDoc = createAggregator(aggregationBuilder, indexSearcher, longFieldType, metricFieldType);
+                Aggregator stream = createAggregator(aggregationBuilder, indexSearcher, longFieldType, metricFieldType);
+                perDoc.preCollection();
+                stream.preCollection();
+                for (LeafReaderContext ctx : indexReader.leaves()) {
+                    LeafBucketCollector perDocCollector = perDoc.getLeafCollector(ctx);
+                    for (int docId = 0; docId < ctx.reader().maxDoc(); docId++) {
+                        perDocCollector.collect(docId, 0);
+                    }
+                    stream.getLeafCollector(ctx).collect(new AllDocsStream(ctx.reader().maxDoc()), 0);
+                }
+                perDoc.postCollection();
+                stream.postCollection();
+
+                List<? extends Terms.Bucket> expected = ((Terms) perDoc.buildTopLevel()).getBuckets();
+                List<? extends Terms.Bucket> actual = ((Terms) stream.buildTopLevel()).getBuckets();
+                assertEquals(expected.size(), actual.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.get(i).getKey(), actual.get(i).getKey());
+                    assertEquals(expected.get(i).getDocCount(), actual.get(i).getDocCount());
+                    Avg expectedAvg = expected.get(i).getAggregations().get("avg");
+                    Avg actualAvg = actual.get(i).getAggregations().get("avg");
+                    assertEquals(expectedAvg.getValue(), actualAvg.getValue(), 0d);
+                }
+            }
+        }
+    }
+
+    /**
+     * Streams all the docs of a segment.
+     */
+    private static class AllDocsStream extends DocIdStream {
+        private final int maxDoc;
+        private int next;
+
+        AllDocsStream(int maxDoc) {
+            this.maxDoc = maxDoc;
+        }
+
+        @Override
+        public void forEach(int upTo, CheckedIntConsumer<IOException> consumer) throws IOException {
+            for (int end = Math.min(upTo, maxDoc); next < end; next++) {
+                consumer.accept(next);
+            }
+        }
+
+        @Override
+        public int count(int upTo) {
+            int start = next;
+            next = Math.max(next, Math.min(upTo, maxDoc));
+            return next - start;
+        }
+
+        @Override
+        public boolean mayHaveRemaining() {
+            return next < maxDoc;
+        }
+
+        @Override
+        public int intoArray(int upTo, int[] array) {
+            int count = 0;
+            for (int end = Math.min(upTo, maxDoc); count < array.length && next < end; next++) {
+                array[count++] = next;
+            }
+            return count;
+        }
+    }
+
     /**
      * Helper method to collect all documents using the aggregator's leaf collector.
      * This simulates the document collection phase that happens during normal aggregation.
@@ -0,0 +1,251 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.approximate;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.SearchOperationListener;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.fetch.subphase.InnerHitsContext;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ApproximateBooleanQueryTests extends OpenSearchTestCase {
+
+    private static final String SORT_FIELD = "timestamp";
+    private static final String FILTER_FIELD = "service";
+
+    private final NumberFieldMapper.NumberFieldType sortFieldType = new NumberFieldMapper.NumberFieldType(
+        SORT_FIELD,
+        NumberFieldMapper.NumberType.LONG
+    );
+
+    public void testCanApproximate() {
+        SearchSourceBuilder source = new SearchSourceBuilder();
+        SearchContext context = mockContext(source, 10);
+        BooleanQuery filtered = new BooleanQuery.Builder().add(new TermQuery(new Term(FILTER_FIELD, "a")), BooleanClause.Occur.FILTER)
+            .build();
+
+        assertFalse(new ApproximateBooleanQuery(filtered).canApproximate(null));
+        // hits are sorted by score
+        assertFalse(new ApproximateBooleanQuery(filtered).canApproximate(context));
+
+        source.sort(new FieldSortBuilder(SORT_FIELD).order(SortOrder.DESC));
+        assertTrue(new ApproximateBooleanQuery(filtered).canApproximate(context));
+
+        // optional clauses change which docs match
+        BooleanQuery withShould = new BooleanQuery.Builder().add(filtered, BooleanClause.Occur.FILTER)
+            .add(new TermQuery(new Term(FILTER_FIELD, "b")), BooleanClause.Occur.SHOULD)
+            .build();
+        assertFalse(new ApproximateBooleanQuery(withShould).canApproximate(context));
+
+        when(context.trackScores()).thenReturn(true);
+        assertFalse(new ApproximateBooleanQuery(filtered).canApproximate(context));
+        when(context.trackScores()).thenReturn(false);
+
+        source.sorts().clear();
+        source.sort(new FieldSortBuilder("unmapped").order(SortOrder.DESC));
+        ApproximateBooleanQuery approximateBooleanQuery = new ApproximateBooleanQuery(filtered);
+        assertFalse(approximateBooleanQuery.canApproximate(context));
+        assertThrows(IllegalStateException.class, () -> approximateBooleanQuery.rewrite(null));
+    }
+
+    public void testApproximateFilteredTopDocs() throws IOException {
+        try (Directory directory = newDirectory()) {
+            int numDocs = randomIntBetween(10000, 20000);
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory)) {
+                for (int i = 0; i < numDocs; i++) {
+                    Document doc = new Document();
+                    doc.add(new LongPoint(SORT_FIELD, i));
+                    doc.add(new SortedNumericDocValuesField(SORT_FIELD, i));
+                    doc.add(new StringField(FILTER_FIELD, i % 20 == 0 ? "rare" : "common", Field.Store.NO));
+                    iw.addDocument(doc);
+                }
+                iw.forceMerge(1);
+                try (IndexReader reader = iw.getReader()) {
+                    IndexSearcher searcher = new IndexSearcher(reader);
+                    for (SortOrder sortOrder : SortOrder.values()) {
+                        for (boolean negativeFilter : new boolean[] { false, true }) {
+                            for (boolean sortFieldRange : new boolean[] { false, true }) {
+                                assertApproximateFilteredTopDocs(searcher, numDocs, sortOrder, negativeFilter, sortFieldRange);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private void assertApproximateFilteredTopDocs(
+        IndexSearcher searcher,
+        int numDocs,
+        SortOrder sortOrder,
+        boolean negativeFilter,
+        boolean sortFieldRange
+    ) throws IOException {
+        int size = randomIntBetween(1, 10);
+        Sort sort = new Sort(new SortedNumericSortField(SORT_FIELD, SortField.Type.LONG, sortOrder == SortOrder.DESC));
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        if (negativeFilter) {
+            builder.add(new TermQuery(new Term(FILTER_FIELD, "common")), BooleanClause.Occur.MUST_NOT);
+        } else {
+            builder.add(new TermQuery(new Term(FILTER_FIELD, "rare")), BooleanClause.Occur.FILTER);
+        }
+        if (sortFieldRange) {
+            // a range on the sort field is applied by the walk itself
+            long lower = randomLongBetween(0, numDocs / 4);
+            long upper = randomLongBetween(3 * numDocs / 4, numDocs - 1);
+            builder.add(
+                sortFieldType.rangeQuery(lower, upper, true, true, null, null, null, mock(QueryShardContext.class)),
+                BooleanClause.Occur.MUST
+            );
+        } else {
+            builder.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+        }
+        BooleanQuery booleanQuery = builder.build();
+
+        SearchSourceBuilder source = new SearchSourceBuilder().sort(new FieldSortBuilder(SORT_FIELD).order(sortOrder));
+        ApproximateBooleanQuery approximateQuery = new ApproximateBooleanQuery(booleanQuery);
+        assertTrue(approximateQuery.canApproximate(mockContext(source, size)));
+
+        TopDocs approximateDocs = searcher.search(approximateQuery, size, sort);
+        TopDocs exactDocs = searcher.search(booleanQuery, size, sort);
+        String description = booleanQuery + " sorted " + sortOrder;
+        assertEquals(description, size, exactDocs.scoreDocs.length);
+        assertEquals(description, exactDocs.scoreDocs.length, approximateDocs.scoreDocs.length);
+        for (int i = 0; i < exactDocs.scoreDocs.length; i++) {
+            assertEquals(description, ((FieldDoc) exactDocs.scoreDocs[i]).fields[0], ((FieldDoc) approximateDocs.scoreDocs[i]).fields[0]);
+        }
+        // only the docs of the walked window are collected
+        assertTrue(description, approximateDocs.totalHits.value() < exactDocs.totalHits.value());
+    }
+
+    public void testContextIndexSearcherWrapsOnlyApproximableMainQuery() throws IOException {
+        try (Directory directory = newDirectory()) {
+            int numDocs = randomIntBetween(10000, 20000);
+            try (RandomIndexWriter iw = new RandomIndexWriter(random(), directory)) {
+                for (int i = 0; i < numDocs; i++) {
+                    Document doc = new Document();
+                    doc.add(new LongPoint(SORT_FIELD, i));
+                    doc.add(new SortedNumericDocValuesField(SORT_FIELD, i));
+                    doc.add(new StringField(FILTER_FIELD, i % 20 == 0 ? "rare" : "common", Field.Store.NO));
+                    iw.addDocument(doc);
+                }
+                iw.forceMerge(1);
+                try (DirectoryReader reader = iw.getReader()) {
+                    IndexSearcher exactSearcher = new IndexSearcher(reader);
+                    int size = randomIntBetween(1, 10);
+
+                    // a single-clause boolean nested in the main query takes more than one rewrite step
+                    BooleanQuery nested = new BooleanQuery.Builder().add(
+                        new PrefixQuery(new Term(FILTER_FIELD, "ra")),
+                        BooleanClause.Occur.MUST
+                    ).build();
+                    BooleanQuery booleanQuery = new BooleanQuery.Builder().add(nested, BooleanClause.Occur.FILTER)
+                        .add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST)
+                        .build();
+
+                    // hits are sorted by score, so the main query is fully rewritten without being wrapped
+                    SearchContext scoreSorted = mockContext(new SearchSourceBuilder(), size);
+                    ContextIndexSearcher searcher = contextIndexSearcher(reader, scoreSorted, booleanQuery);
+                    Query rewritten = searcher.rewrite(booleanQuery);
+                    assertThat(rewritten, not(instanceOf(ApproximateScoreQuery.class)));
+                    assertEquals(exactSearcher.rewrite(booleanQuery), rewritten);
+                    // the query phase expects the rewritten main query to be a fixed point
+                    when(scoreSorted.query()).thenReturn(rewritten);
+                    assertSame(rewritten, searcher.rewrite(rewritten));
+                    assertEquals(exactSearcher.count(booleanQuery), searcher.count(booleanQuery));
+
+                    // sorted on a point field, the main query is approximated
+                    SearchSourceBuilder source = new SearchSourceBuilder().sort(new FieldSortBuilder(SORT_FIELD).order(SortOrder.DESC));
+                    searcher = contextIndexSearcher(reader, mockContext(source, size), booleanQuery);
+                    assertThat(searcher.rewrite(booleanQuery), instanceOf(ApproximateScoreQuery.class));
+                    Sort sort = new Sort(new SortedNumericSortField(SORT_FIELD, SortField.Type.LONG, true));
+                    TopDocs approximateDocs = searcher.search(booleanQuery, size, sort);
+                    TopDocs exactDocs = exactSearcher.search(booleanQuery, size, sort);
+                    assertEquals(size, exactDocs.scoreDocs.length);
+                    assertEquals(exactDocs.scoreDocs.length, approximateDocs.scoreDocs.length);
+                    for (int i = 0; i < exactDocs.scoreDocs.length; i++) {
+                        assertEquals(((FieldDoc) exactDocs.scoreDocs[i]).fields[0], ((FieldDoc) approximateDocs.scoreDocs[i]).fields[0]);
+                    }
+                }
+            }
+        }
+    }
+
+    private static ContextIndexSearcher contextIndexSearcher(DirectoryReader reader, SearchContext context, Query mainQuery)
+        throws IOException {
+        when(context.query()).thenReturn(mainQuery);
+        IndexShard indexShard = mock(IndexShard.class);
+        when(indexShard.getSearchOperationListener()).thenReturn(new SearchOperationListener() {
+        });
+        when(context.indexShard()).thenReturn(indexShard);
+        when(context.bucketCollectorProcessor()).thenReturn(SearchContext.NO_OP_BUCKET_COLLECTOR_PROCESSOR);
+        return new ContextIndexSearcher(
+            reader,
+            IndexSearcher.getDefaultSimilarity(),
+            IndexSearcher.getDefaultQueryCache(),
+            IndexSearcher.getDefaultQueryCachingPolicy(),
+            false,
+            null,
+            context
+        );
+    }
+
+    private SearchContext mockContext(SearchSourceBuilder source, int size) {
+        SearchContext context = mock(SearchContext.class);
+        ShardSearchRequest request = mock(ShardSearchRequest.class);
+        when(request.source()).thenReturn(source);
+        when(context.request()).thenReturn(request);
+        when(context.aggregations()).thenReturn(null);
+        when(context.innerHits()).thenReturn(new InnerHitsContext());
+        when(context.trackTotalHitsUpTo()).thenReturn(size);
+        when(context.from()).thenReturn(0);
+        when(context.size()).thenReturn(size);
+        QueryShardContext queryShardContext = mock(QueryShardContext.class);
+        when(queryShardContext.fieldMapper(SORT_FIELD)).thenReturn(sortFieldType);
+        when(context.getQueryShardContext()).thenReturn(queryShardContext);
+        return context;
+    }
+}
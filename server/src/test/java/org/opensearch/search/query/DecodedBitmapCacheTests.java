@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+public class DecodedBitmapCacheTests extends OpenSearchTestCase {
+
+    private final DecodedBitmapCache cache = new DecodedBitmapCache(
+        Settings.builder().put(DecodedBitmapCache.INDICES_BITMAP_CACHE_SIZE_SETTING.getKey(), "1mb").build()
+    );
+
+    public void testSharesDecodedBitmap() {
+        byte[] serialized = serialize(RoaringBitmap.bitmapOf(1, 5, 100_000));
+
+        RoaringBitmap bitmap = cache.getOrDecode(new BytesArray(serialized));
+        assertEquals(RoaringBitmap.bitmapOf(1, 5, 100_000), bitmap);
+        assertEquals(1, cache.count());
+
+        // the same content in a different buffer
+        byte[] padded = new byte[serialized.length + 3];
+        System.arraycopy(serialized, 0, padded, 2, serialized.length);
+        assertSame(bitmap, cache.getOrDecode(new BytesArray(padded, 2, serialized.length)));
+        assertEquals(1, cache.count());
+
+        assertNotSame(bitmap, cache.getOrDecode(new BytesArray(serialize(RoaringBitmap.bitmapOf(1, 5)))));
+        assertEquals(2, cache.count());
+    }
+
+    public void testSharesDecoded64BitBitmap() throws IOException {
+        Roaring64NavigableMap expected = Roaring64NavigableMap.bitmapOf(1L, 1L << 40, Long.MAX_VALUE);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        expected.serializePortable(new DataOutputStream(out));
+        byte[] serialized = out.toByteArray();
+
+        Roaring64NavigableMap bitmap = cache.getOrDecode64(new BytesArray(serialized));
+        assertEquals(3, bitmap.getLongCardinality());
+        assertTrue(bitmap.contains(1L << 40));
+        assertTrue(bitmap.contains(Long.MAX_VALUE));
+        assertSame(bitmap, cache.getOrDecode64(new BytesArray(serialized.clone())));
+        assertEquals(1, cache.count());
+    }
+
+    public void testInvalidBitmapIsNotCached() {
+        BytesArray invalid = new BytesArray(new byte[] { 1, 2, 3 });
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> cache.getOrDecode(invalid));
+        assertEquals("Failed to deserialize the bitmap.", e.getMessage());
+        e = expectThrows(IllegalArgumentException.class, () -> cache.getOrDecode64(invalid));
+        assertEquals("Failed to deserialize the 64-bit bitmap.", e.getMessage());
+        assertEquals(0, cache.count());
+    }
+
+    public void testResizeAndCloseClearCache() {
+        cache.getOrDecode(new BytesArray(serialize(RoaringBitmap.bitmapOf(1, 5))));
+        assertEquals(1, cache.count());
+        assertTrue(cache.sizeInBytes() > 0);
+
+        cache.setCacheSize(new ByteSizeValue(2, ByteSizeUnit.MB));
+        assertEquals(0, cache.count());
+
+        cache.getOrDecode(new BytesArray(serialize(RoaringBitmap.bitmapOf(1, 5))));
+        assertEquals(1, cache.count());
+        cache.close();
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.sizeInBytes());
+    }
+
+    private static byte[] serialize(RoaringBitmap bitmap) {
+        byte[] bytes = new byte[bitmap.serializedSizeInBytes()];
+        bitmap.serialize(ByteBuffer.wrap(bytes));
+        return bytes;
+    }
+}
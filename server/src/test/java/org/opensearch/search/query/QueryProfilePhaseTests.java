@@ -232,6 +232,31 @@ public class QueryProfilePhaseTests extends IndexShardTestCase {
         dir.close();
     }
 
+    public void testQueryRewritesReportedOnTopLevelQuery() throws Exception {
+        Directory dir = newDirectory();
+        RandomIndexWriter w = new RandomIndexWriter(random(), dir);
+        w.addDocument(new Document());
+        w.close();
+
+        IndexReader reader = DirectoryReader.open(dir);
+        TestSearchContext context = new TestSearchContext(null, indexShard, newContextSearcher(reader, executor));
+        context.setTask(new SearchShardTask(123L, "", "", "", null, Collections.emptyMap()));
+        context.parsedQuery(new ParsedQuery(new MatchAllDocsQuery()));
+        context.withCleanQueryResult().withProfilers();
+        List<String> rewrites = List.of("field_statistics: [range] on [rank] covers all the values [0] to [1], rewritten to [exists]");
+        context.getProfilers().getCurrentQueryProfiler().setQueryRewrites(rewrites);
+
+        QueryPhase.executeInternal(context, queryPhaseSearcher);
+        assertEquals(1, context.queryResult().topDocs().topDocs.totalHits.value());
+        assertProfileData(context, collector -> assertThat(collector.getTime(), greaterThan(0L)), query -> {
+            assertThat(query.getDebugInfo().get(SearchProfileShardResults.QUERY_REWRITES_FIELD), equalTo(rewrites));
+            assertThat(query.getTimeBreakdown().get("create_weight_count"), equalTo(1L));
+        });
+
+        reader.close();
+        dir.close();
+    }
+
     public void testTerminateAfterWithFilter() throws Exception {
         Directory dir = newDirectory();
         final Sort sort = new Sort(new SortField("rank", SortField.Type.INT));
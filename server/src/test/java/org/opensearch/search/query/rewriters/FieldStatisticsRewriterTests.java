@@ -0,0 +1,276 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query.rewriters;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.DoublePoint;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.index.mapper.FieldNamesFieldMapper;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.ConstantScoreQueryBuilder;
+import org.opensearch.index.query.ExistsQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.TermsQueryBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FieldStatisticsRewriterTests extends OpenSearchTestCase {
+
+    private static final int NUM_DOCS = 100;
+    private static final int NUM_STATUSES = 20;
+
+    private final FieldStatisticsRewriter rewriter = FieldStatisticsRewriter.INSTANCE;
+    private QueryShardContext context;
+    private Directory directory;
+    private IndexReader reader;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        directory = newDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(Lucene.STANDARD_ANALYZER))) {
+            for (int i = 0; i < NUM_DOCS; i++) {
+                Document doc = new Document();
+                doc.add(new LongPoint("price", i));
+                doc.add(new DoublePoint("rating", i / 10.0));
+                doc.add(new StringField("status", "status_" + (i % NUM_STATUSES), Field.Store.NO));
+                doc.add(new StringField("tags", "tag_" + (i % NUM_STATUSES), Field.Store.NO));
+                doc.add(new StringField("tags", "tag_" + ((i + 1) % NUM_STATUSES), Field.Store.NO));
+                writer.addDocument(doc);
+                if (i == NUM_DOCS / 2) {
+                    writer.commit();
+                }
+            }
+        }
+        reader = DirectoryReader.open(directory);
+
+        context = mock(QueryShardContext.class);
+        when(context.getIndexReader()).thenReturn(reader);
+        when(context.fieldMapper("price")).thenReturn(new NumberFieldMapper.NumberFieldType("price", NumberFieldMapper.NumberType.LONG));
+        when(context.fieldMapper("rating")).thenReturn(
+            new NumberFieldMapper.NumberFieldType("rating", NumberFieldMapper.NumberType.DOUBLE)
+        );
+        when(context.fieldMapper("status")).thenReturn(new KeywordFieldMapper.KeywordFieldType("status"));
+        when(context.fieldMapper("tags")).thenReturn(new KeywordFieldMapper.KeywordFieldType("tags"));
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        reader.close();
+        directory.close();
+    }
+
+    public void testRangeCoveringAllValuesRewrittenToExists() {
+        QueryBuilder query = QueryBuilders.rangeQuery("price").gte(0).lte(NUM_DOCS - 1).boost(2f).queryName("all_prices");
+        QueryBuilder rewritten = rewriter.rewrite(query, context);
+
+        assertThat(rewritten, instanceOf(ExistsQueryBuilder.class));
+        ExistsQueryBuilder exists = (ExistsQueryBuilder) rewritten;
+        assertThat(exists.fieldName(), equalTo("price"));
+        assertThat(exists.boost(), equalTo(2f));
+        assertThat(exists.queryName(), equalTo("all_prices"));
+        verify(context).addQueryRewrite(argThat(rewrite -> rewrite.contains("[range] on [price]")));
+
+        // bounds with a decimal part or beyond the values of the shard
+        assertThat(rewriter.rewrite(QueryBuilders.rangeQuery("price").gt(-0.5).lt(1000), context), instanceOf(ExistsQueryBuilder.class));
+        assertThat(rewriter.rewrite(QueryBuilders.rangeQuery("price").gte("-10"), context), instanceOf(ExistsQueryBuilder.class));
+        assertThat(rewriter.rewrite(QueryBuilders.rangeQuery("rating").gt(-0.1).lte(9.9), context), instanceOf(ExistsQueryBuilder.class));
+    }
+
+    public void testRangeExcludingSomeValuesNotRewritten() {
+        for (QueryBuilder query : List.of(
+            QueryBuilders.rangeQuery("price").gt(0).lte(NUM_DOCS - 1),
+            QueryBuilders.rangeQuery("price").gte(0).lt(NUM_DOCS - 1),
+            QueryBuilders.rangeQuery("price").gte(0.5),
+            QueryBuilders.rangeQuery("rating").gte(0).lt(9.9),
+            QueryBuilders.rangeQuery("price").gte(0).format("epoch_millis"),
+            QueryBuilders.rangeQuery("unmapped").gte(0)
+        )) {
+            assertSame(query, rewriter.rewrite(query, context));
+        }
+        verify(context, never()).addQueryRewrite(anyString());
+    }
+
+    public void testLargeTermsQueryRewrittenToComplement() {
+        List<Object> values = new ArrayList<>();
+        for (int i = 2; i < NUM_STATUSES; i++) {
+            values.add("status_" + i);
+        }
+        values.add("missing");
+        QueryBuilder query = new TermsQueryBuilder("status", values).boost(3f).queryName("statuses");
+        QueryBuilder rewritten = rewriter.rewrite(query, context);
+
+        assertThat(rewritten, instanceOf(ConstantScoreQueryBuilder.class));
+        ConstantScoreQueryBuilder constantScore = (ConstantScoreQueryBuilder) rewritten;
+        assertThat(constantScore.boost(), equalTo(3f));
+        assertThat(constantScore.queryName(), equalTo("statuses"));
+        BoolQueryBuilder complement = (BoolQueryBuilder) constantScore.innerQuery();
+        assertThat(complement.filter(), equalTo(List.of(new ExistsQueryBuilder("status"))));
+        assertThat(complement.mustNot(), equalTo(List.of(new TermsQueryBuilder("status", List.of("status_0", "status_1")))));
+        verify(context).addQueryRewrite(argThat(rewrite -> rewrite.contains("[terms] with [19] values on [status]")));
+    }
+
+    public void testTermsQueryNotRewritten() {
+        List<Object> fewValues = List.of("status_1", "status_2", "status_3");
+        List<Object> halfValues = new ArrayList<>();
+        List<Object> multiValued = new ArrayList<>();
+        for (int i = 0; i < NUM_STATUSES; i++) {
+            if (i % 2 == 0) {
+                halfValues.add("status_" + i);
+            }
+            multiValued.add("tag_" + i);
+        }
+        for (int i = 0; i < 10; i++) {
+            halfValues.add("missing_" + i);
+        }
+        for (QueryBuilder query : List.of(
+            new TermsQueryBuilder("status", fewValues),
+            new TermsQueryBuilder("status", halfValues),
+            new TermsQueryBuilder("tags", multiValued),
+            new TermsQueryBuilder("price", multiValued)
+        )) {
+            assertSame(query, rewriter.rewrite(query, context));
+        }
+        verify(context, never()).addQueryRewrite(anyString());
+    }
+
+    public void testFieldWithoutDocValuesRewrittenOnlyWithFieldNames() {
+        when(context.fieldMapper("price")).thenReturn(
+            new NumberFieldMapper.NumberFieldType(
+                "price",
+                NumberFieldMapper.NumberType.LONG,
+                true,
+                false,
+                false,
+                false,
+                true,
+                null,
+                Collections.emptyMap()
+            )
+        );
+        when(context.fieldMapper("status")).thenReturn(
+            new KeywordFieldMapper.KeywordFieldType("status", true, false, Collections.emptyMap())
+        );
+        List<Object> values = new ArrayList<>();
+        for (int i = 1; i < NUM_STATUSES; i++) {
+            values.add("status_" + i);
+        }
+        QueryBuilder range = QueryBuilders.rangeQuery("price").gte(0);
+        QueryBuilder terms = new TermsQueryBuilder("status", values);
+
+        // the exists query would look up the disabled _field_names field and match nothing
+        when(context.fieldMapper(FieldNamesFieldMapper.NAME)).thenReturn(new FieldNamesFieldMapper.FieldNamesFieldType(false));
+        assertSame(range, rewriter.rewrite(range, context));
+        assertSame(terms, rewriter.rewrite(terms, context));
+        verify(context, never()).addQueryRewrite(anyString());
+
+        when(context.fieldMapper(FieldNamesFieldMapper.NAME)).thenReturn(new FieldNamesFieldMapper.FieldNamesFieldType(true));
+        assertThat(rewriter.rewrite(range, context), instanceOf(ExistsQueryBuilder.class));
+        assertThat(rewriter.rewrite(terms, context), instanceOf(ConstantScoreQueryBuilder.class));
+    }
+
+    public void testRewritesNestedClauses() {
+        QueryBuilder term = QueryBuilders.termQuery("status", "status_1");
+        QueryBuilder unchanged = QueryBuilders.boolQuery().must(term).filter(QueryBuilders.rangeQuery("price").gte(10));
+        assertSame(unchanged, rewriter.rewrite(unchanged, context));
+
+        BoolQueryBuilder query = QueryBuilders.boolQuery()
+            .must(term)
+            .filter(QueryBuilders.boolQuery().filter(QueryBuilders.rangeQuery("price").gte(0)))
+            .minimumShouldMatch(1)
+            .boost(2f);
+        QueryBuilder rewritten = rewriter.rewrite(query, context);
+
+        assertThat(rewritten, instanceOf(BoolQueryBuilder.class));
+        BoolQueryBuilder rewrittenBool = (BoolQueryBuilder) rewritten;
+        assertThat(rewrittenBool.must(), equalTo(List.of(term)));
+        assertThat(rewrittenBool.minimumShouldMatch(), equalTo("1"));
+        assertThat(rewrittenBool.boost(), equalTo(2f));
+        BoolQueryBuilder nested = (BoolQueryBuilder) rewrittenBool.filter().get(0);
+        assertThat(nested.filter(), equalTo(List.of(new ExistsQueryBuilder("price"))));
+    }
+
+    public void testNoReader() {
+        QueryShardContext noReaderContext = mock(QueryShardContext.class);
+        QueryBuilder query = QueryBuilders.rangeQuery("price").gte(0);
+        assertSame(query, rewriter.rewrite(query, noReaderContext));
+        assertSame(query, rewriter.rewrite(query, null));
+    }
+
+    public void testStatisticsCachedPerReader() throws Exception {
+        try (IndexReader otherReader = DirectoryReader.open(directory)) {
+            ShardFieldStatistics statistics = ShardFieldStatistics.of(otherReader);
+            assertSame(statistics, ShardFieldStatistics.of(otherReader));
+            assertSame(statistics.fieldTerms("status"), statistics.fieldTerms("status"));
+            assertThat(statistics.fieldTerms("status").terms().size(), equalTo(NUM_STATUSES));
+            assertFalse(statistics.fieldTerms("tags").singleValued());
+            assertNull(statistics.fieldTerms("missing"));
+            assertNull(statistics.pointRange("missing"));
+            assertThat(statistics.pointRange("price").min().length, equalTo(Long.BYTES));
+            assertNotSame(statistics, ShardFieldStatistics.of(reader));
+        }
+        // the statistics of a reader are dropped when it is closed
+        ShardFieldStatistics statistics = ShardFieldStatistics.of(reader);
+        int cachedReaders = ShardFieldStatistics.cachedReaders();
+        reader.close();
+        assertThat(ShardFieldStatistics.cachedReaders(), equalTo(cachedReaders - 1));
+        reader = DirectoryReader.open(directory);
+        assertNotSame(statistics, ShardFieldStatistics.of(reader));
+        assertThat(ShardFieldStatistics.of(reader).fieldTerms("status").singleValued(), equalTo(true));
+    }
+
+    public void testHighCardinalityFieldHasNoCollectedTerms() throws Exception {
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig(Lucene.STANDARD_ANALYZER))) {
+                for (int i = 0; i <= ShardFieldStatistics.MAX_COLLECTED_TERMS; i++) {
+                    Document doc = new Document();
+                    doc.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                    writer.addDocument(doc);
+                }
+            }
+            try (IndexReader highCardinalityReader = DirectoryReader.open(dir)) {
+                assertNull(ShardFieldStatistics.of(highCardinalityReader).fieldTerms("id"));
+            }
+        }
+    }
+
+    public void testRewriteDescription() {
+        rewriter.rewrite(QueryBuilders.rangeQuery("price").lte(NUM_DOCS), context);
+        verify(context).addQueryRewrite(
+            "field_statistics: [range] on [price] covers all the values [0] to [99], rewritten to [exists]"
+        );
+        assertThat(rewriter.name(), containsString("statistics"));
+    }
+}